@@ -1,13 +1,12 @@
 package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
 
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
 import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoClock;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoFIFO;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLFU;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLRU;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimo;
-import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoRandom;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Temporizador;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
 
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -22,19 +21,29 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Custo de repetir um trace inteiro, sem a construção: o algoritmo (e o índice do Ótimo)
+ * é montado uma vez por trial e cada invocação começa de um reset() fora da medição. A
+ * construção e o índice são medidos à parte no ConstrucaoBenchmark, e a latência de cada
+ * acesso no LatenciaAcessoBenchmark. WorkingSet e PFF não têm frames fixos e ficam no
+ * AlocacaoVariavelBenchmark.
+ *
+ * Uma operação é o trace inteiro; o contador auxiliar "referencias" dá o mesmo tempo em
+ * ns por referência, comparável entre workloads de tamanhos diferentes. Nos traces xs
+ * (500 referências) o custo de marcar o tempo de cada invocação ainda pesa um pouco.
+ *
+ * Cada combinação de parâmetros roda em um fork próprio, então a chamada algo.accesso()
+ * continua monomórfica apesar de o campo ser da interface.
+ */
 @State(Scope.Thread)
 @Fork(value = 2)
 @Warmup(iterations = 5, time = 1)
 @Measurement(iterations = 5, time = 1)
 @BenchmarkMode(Mode.AverageTime)
-@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class AlgoritmoBenchmark {
 
     @Param({
@@ -84,70 +93,69 @@ public class AlgoritmoBenchmark {
     @Param({"2", "4", "8", "16", "32", "64", "128"})
     private int frames;
 
+    @Param({"FIFO", "LRU", "LRUPrimitivo", "LFU", "LFUBuckets", "Clock", "ClockNRU", "Random", "ARC", "LIRS", "ClockPro",
+            "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock", "Otimo", "OtimoHeap"})
+    private String algoritmo;
+
     private int[] sequence;
-    private List<Integer> sequenceList;
-    private AlgoritmoOtimo otimo; 
+    private AlgoritmoSubstituicaoPages algo;
+    private AlgoritmoComTick comTick;     // null se o algoritmo não usa o relógio
+    private Temporizador temporizador;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
-        sequenceList = carregarCsv("data/workloads/" + workload + ".csv");
-        sequence = new int[sequenceList.size()];
-        for (int i = 0; i < sequenceList.size(); i++) {
-            sequence[i] = sequenceList.get(i);
+        sequence = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+        algo = Algoritmos.criar(algoritmo, frames, IndiceResidencia.universo(sequence));
+        Algoritmos.prepararIndice(algo, sequence);
+        if (algo instanceof AlgoritmoComTick t) {
+            comTick      = t;
+            temporizador = new Temporizador(Algoritmos.PERIODO_TICK);
         }
-        otimo = new AlgoritmoOtimo(frames);
-        otimo.carregarReferencias(sequenceList);
         System.gc();
     }
 
-    // ── Benchmarks de tempo (AverageTime)
-
-    @Benchmark
-    public void benchFIFO(Blackhole blackhole) {
-        AlgoritmoFIFO algo = new AlgoritmoFIFO(frames);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
+    // Volta ao estado inicial sem alocar; o índice do Ótimo é mantido
+    @Setup(Level.Invocation)
+    public void reiniciar() {
+        algo.reset();
+        if (temporizador != null) temporizador.reiniciar();
     }
 
-    @Benchmark
-    public void benchLRU(Blackhole blackhole) {
-        AlgoritmoLRU algo = new AlgoritmoLRU(frames);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
-    }
-
-    @Benchmark
-    public void benchLFU(Blackhole blackhole) {
-        AlgoritmoLFU algo = new AlgoritmoLFU(frames);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
-    }
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Referencias {
+        public long referencias;
 
-    @Benchmark
-    public void benchClock(Blackhole blackhole) {
-        AlgoritmoClock algo = new AlgoritmoClock(frames);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
+        @Setup(Level.Iteration)
+        public void zerar() {
+            referencias = 0;
+        }
     }
 
+    // Um consume por referência: o laço fica no benchmark, como um chamador comum
     @Benchmark
-    public void benchRandom(Blackhole blackhole) {
-        AlgoritmoRandom algo = new AlgoritmoRandom(frames, 42L);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
+    public void replay(Referencias contador, Blackhole blackhole) {
+        if (comTick == null) {
+            for (int page : sequence) blackhole.consume(algo.accesso(page));
+        } else {
+            int desdeTick = 0;
+            for (int page : sequence) {
+                blackhole.consume(algo.accesso(page));
+                if (++desdeTick == Algoritmos.PERIODO_TICK) {
+                    comTick.tick();
+                    desdeTick = 0;
+                }
+            }
+        }
+        contador.referencias += sequence.length;
     }
 
+    // Mesmo replay via accessoLote: um único resultado por execução e o laço dentro da classe do algoritmo
     @Benchmark
-    public void benchOtimo(Blackhole blackhole) {
-        AlgoritmoOtimo algo = new AlgoritmoOtimo(frames);
-        for (int page : sequence) blackhole.consume(algo.accesso(page));
-    }
-
-    private static List<Integer> carregarCsv(String caminho) throws Exception {
-        List<Integer> lista = new ArrayList<>();
-        BufferedReader br = new BufferedReader(new FileReader(new File(caminho)));
-        br.readLine(); // pula header
-        String linha;
-        while ((linha = br.readLine()) != null) {
-            linha = linha.trim();
-            if (!linha.isEmpty()) lista.add(Integer.parseInt(linha));
-        }
-        br.close();
-        return lista;
+    public int replayLote(Referencias contador) {
+        contador.referencias += sequence.length;
+        return temporizador == null
+                ? algo.accessoLote(sequence, 0, sequence.length)
+                : temporizador.accessoLote(comTick, sequence, 0, sequence.length);
     }
-}
\ No newline at end of file
+}
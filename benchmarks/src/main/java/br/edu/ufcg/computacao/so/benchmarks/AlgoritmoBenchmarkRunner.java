@@ -0,0 +1,134 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roda AlgoritmoBenchmark, ConstrucaoBenchmark, LatenciaAcessoBenchmark e
+ * AlocacaoVariavelBenchmark com o GCProfiler (bytes alocados por operação) e grava, além
+ * do JSON do JMH em results/jmh_results.json, results/jmh_por_referencia.csv com tempo e
+ * alocação normalizados por referência:
+ *
+ *   - replay / replayLote : a operação é o trace inteiro, divide pelo tamanho do trace
+ *   - acesso              : a operação já é uma referência; traz também p50/p99/p999
+ *   - indiceOtimo*        : custo do índice por referência do trace
+ *   - construir           : não depende do trace, fica só por operação
+ *
+ * Uso: java -cp benchmarks/target/benchmarks.jar \
+ *        benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks.AlgoritmoBenchmarkRunner [opções do JMH]
+ * (por exemplo -p workload=random_lg_wide -f 1; sem regex roda as quatro classes)
+ */
+public class AlgoritmoBenchmarkRunner {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linha = new CommandLineOptions(args);
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+
+        ChainedOptionsBuilder opcoes = new OptionsBuilder()
+                .parent(linha)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("results/jmh_results.json");
+        if (linha.getIncludes().isEmpty()) {
+            opcoes.include("(" + AlgoritmoBenchmark.class.getSimpleName()
+                    + "|" + ConstrucaoBenchmark.class.getSimpleName()
+                    + "|" + LatenciaAcessoBenchmark.class.getSimpleName()
+                    + "|" + AlocacaoVariavelBenchmark.class.getSimpleName() + ")\\.");
+        }
+        Collection<RunResult> resultados = new Runner(opcoes.build()).run();
+
+        gerarCsv(resultados);
+        System.out.println("\nResultados em results/jmh_results.json e results/jmh_por_referencia.csv");
+    }
+
+    //Relatorio CSV
+
+    private static void gerarCsv(Collection<RunResult> resultados) throws Exception {
+        Map<String, Integer> tamanhos = new HashMap<>();
+
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/jmh_por_referencia.csv"));
+        bw.write("benchmark,workload,algorithm,frames,references_per_op,ns_per_op,bytes_per_op,"
+                + "ns_per_ref,bytes_per_ref,p50_ns,p99_ns,p999_ns\n");
+        for (RunResult r : resultados) {
+            BenchmarkParams params = r.getParams();
+            String benchmark = params.getBenchmark();
+            String metodo    = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String workload  = params.getParam("workload");
+
+            Result<?> primario = r.getPrimaryResult();
+            double nsPorOp = emNanos(primario.getScore(), params.getTimeUnit());
+            Result<?> alocacao = r.getSecondaryResults().get(ALOCACAO);
+            double bytesPorOp = alocacao == null ? Double.NaN : alocacao.getScore();
+
+            long refsPorOp = switch (metodo) {
+                case "acesso" -> 1;
+                case "construir" -> 0;
+                default -> tamanhos.computeIfAbsent(workload, AlgoritmoBenchmarkRunner::tamanhoTrace);
+            };
+
+            String percentis = ",,";
+            if (metodo.equals("acesso")) {
+                Statistics estatisticas = primario.getStatistics();
+                percentis = numero(emNanos(estatisticas.getPercentile(50.0), params.getTimeUnit())) + ","
+                          + numero(emNanos(estatisticas.getPercentile(99.0), params.getTimeUnit())) + ","
+                          + numero(emNanos(estatisticas.getPercentile(99.9), params.getTimeUnit()));
+            }
+
+            bw.write(metodo + "," +
+                     valor(workload) + "," +
+                     valor(params.getParam("algoritmo")) + "," +
+                     valor(params.getParam("frames")) + "," +
+                     refsPorOp + "," +
+                     numero(nsPorOp) + "," +
+                     numero(bytesPorOp) + "," +
+                     (refsPorOp == 0 ? "" : numero(nsPorOp / refsPorOp)) + "," +
+                     (refsPorOp == 0 ? "" : numero(bytesPorOp / refsPorOp)) + "," +
+                     percentis + "\n");
+        }
+        bw.close();
+    }
+
+    // Score de AverageTime/SampleTime está na unidade de saída do benchmark
+    private static double emNanos(double valor, TimeUnit unidade) {
+        return valor * unidade.toNanos(1);
+    }
+
+    private static int tamanhoTrace(String workload) {
+        try {
+            return LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload))).length;
+        } catch (Exception e) {
+            throw new IllegalStateException("Falha ao ler o workload " + workload, e);
+        }
+    }
+
+    private static String valor(String parametro) {
+        return parametro == null ? "" : parametro;
+    }
+
+    private static String numero(double valor) {
+        return Double.isNaN(valor) ? "" : String.format("%.4f", valor).replace(",", ".");
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoAlocacaoVariavel;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.Algoritmo2Q;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoARC;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoAging;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoClock;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoClockNRU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoClockPro;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoFIFO;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLFU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLFUBuckets;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLIRS;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLRU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLRUPrimitivo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoNFU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimoHeap;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoPFF;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoRandom;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoSLRU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoWSClock;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoWTinyLFU;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoWorkingSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construção dos algoritmos comparados nos benchmarks, separada em duas etapas: criar()
+ * só chama o construtor; prepararIndice() monta o índice de usos futuros que o Ótimo
+ * precisa antes da primeira referência (no-op para os demais). As políticas de alocação
+ * variável não recebem frames e saem de criarVariavel().
+ */
+final class Algoritmos {
+
+    // Mesmos valores padrão do simulador para Aging, NFU e WSClock
+    static final int PERIODO_TICK = 100;
+    static final int TAU          = 1000;
+    // Alocacao variavel: faixa intermediaria da grade do simulador
+    static final int PFF_CURTO    = 10;
+    static final int PFF_LONGO    = 100;
+
+    private Algoritmos() {}
+
+    static AlgoritmoSubstituicaoPages criar(String nome, int frames, int universo) {
+        return switch (nome) {
+            case "FIFO"         -> new AlgoritmoFIFO(frames, universo);
+            case "LRU"          -> new AlgoritmoLRU(frames);
+            case "LRUPrimitivo" -> new AlgoritmoLRUPrimitivo(frames);
+            case "LFU"          -> new AlgoritmoLFU(frames);
+            case "LFUBuckets"   -> new AlgoritmoLFUBuckets(frames);
+            case "Clock"        -> new AlgoritmoClock(frames, universo);
+            case "ClockNRU"     -> new AlgoritmoClockNRU(frames, universo);
+            case "Random"       -> new AlgoritmoRandom(frames, universo, 42L);
+            case "ARC"          -> new AlgoritmoARC(frames, universo);
+            case "LIRS"         -> new AlgoritmoLIRS(frames, universo);
+            case "ClockPro"     -> new AlgoritmoClockPro(frames, universo);
+            case "WTinyLFU"     -> new AlgoritmoWTinyLFU(frames, universo);
+            case "2Q"           -> new Algoritmo2Q(frames, universo);
+            case "SLRU"         -> new AlgoritmoSLRU(frames, universo);
+            case "Aging"        -> new AlgoritmoAging(frames, universo);
+            case "NFU"          -> new AlgoritmoNFU(frames, universo);
+            case "WSClock"      -> new AlgoritmoWSClock(frames, TAU, universo);
+            case "Otimo"        -> new AlgoritmoOtimo(frames);
+            case "OtimoHeap"    -> new AlgoritmoOtimoHeap(frames);
+            default -> throw new IllegalArgumentException("Algoritmo desconhecido: " + nome);
+        };
+    }
+
+    static AlgoritmoAlocacaoVariavel criarVariavel(String nome, int universo) {
+        return switch (nome) {
+            case "WorkingSet" -> new AlgoritmoWorkingSet(TAU, universo);
+            case "PFF"        -> new AlgoritmoPFF(PFF_CURTO, PFF_LONGO, universo);
+            default -> throw new IllegalArgumentException("Algoritmo de alocacao variavel desconhecido: " + nome);
+        };
+    }
+
+    static void prepararIndice(AlgoritmoSubstituicaoPages algo, int[] sequence) {
+        if (algo instanceof AlgoritmoOtimo otimo) otimo.carregarReferencias(lista(sequence));
+        else if (algo instanceof AlgoritmoOtimoHeap otimo) otimo.carregarReferencias(sequence);
+    }
+
+    // O AlgoritmoOtimo recebe a sequência como List<Integer>
+    static List<Integer> lista(int[] sequence) {
+        List<Integer> referencias = new ArrayList<>(sequence.length);
+        for (int page : sequence) referencias.add(page);
+        return referencias;
+    }
+}
@@ -0,0 +1,122 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoAlocacaoVariavel;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkingSet e PFF nas três medidas da suíte de frames fixos (replay, latência de um
+ * acesso e construção), sem o parâmetro frames: quem decide o tamanho do conjunto
+ * residente é a política (TAU e os intervalos do PFF em Algoritmos), então repetir cada
+ * uma por valor de frames só mediria a mesma configuração de novo.
+ *
+ * Os workloads são os do LatenciaAcessoBenchmark, todos com 10 mil referências ou mais.
+ * Cada medida tem o seu estado: o replay parte de um reset() por invocação, fora da
+ * medição, e o acesso percorre o trace e só volta ao início no fim dele.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AlocacaoVariavelBenchmark {
+
+    @Param({
+    "random_md_medium",
+    "random_lg_wide",
+    "locality_md_tight_hot90",
+    "locality_lg_medium_hot70",
+    "phases_md_medium_p4",
+    "phases_lg_wide_p8",
+    "sequential_md_medium"
+})
+    private String workload;
+
+    @Param({"WorkingSet", "PFF"})
+    private String algoritmo;
+
+    private int[] sequence;
+    private int universo;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        sequence = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+        universo = IndiceResidencia.universo(sequence);
+    }
+
+    @State(Scope.Thread)
+    public static class Replay {
+        private AlgoritmoAlocacaoVariavel algo;
+
+        @Setup(Level.Trial)
+        public void criar(AlocacaoVariavelBenchmark benchmark) {
+            algo = Algoritmos.criarVariavel(benchmark.algoritmo, benchmark.universo);
+            System.gc();
+        }
+
+        @Setup(Level.Invocation)
+        public void reiniciar() {
+            algo.reset();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Fluxo {
+        private AlgoritmoAlocacaoVariavel algo;
+        private int posicao;
+
+        @Setup(Level.Trial)
+        public void criar(AlocacaoVariavelBenchmark benchmark) {
+            algo = Algoritmos.criarVariavel(benchmark.algoritmo, benchmark.universo);
+            System.gc();
+        }
+    }
+
+    // Como AlgoritmoBenchmark.replay: um consume por referência
+    @Benchmark
+    public void replay(Replay estado, AlgoritmoBenchmark.Referencias contador, Blackhole blackhole) {
+        for (int page : sequence) blackhole.consume(estado.algo.accesso(page));
+        contador.referencias += sequence.length;
+    }
+
+    @Benchmark
+    public int replayLote(Replay estado, AlgoritmoBenchmark.Referencias contador) {
+        contador.referencias += sequence.length;
+        return estado.algo.accessoLote(sequence, 0, sequence.length);
+    }
+
+    // Como LatenciaAcessoBenchmark.acesso; a amostra do fim do trace inclui o reset()
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public boolean acesso(Fluxo fluxo) {
+        boolean fault = fluxo.algo.accesso(sequence[fluxo.posicao]);
+        if (++fluxo.posicao == sequence.length) {
+            fluxo.algo.reset();
+            fluxo.posicao = 0;
+        }
+        return fault;
+    }
+
+    @Benchmark
+    public AlgoritmoAlocacaoVariavel construir() {
+        return Algoritmos.criarVariavel(algoritmo, universo);
+    }
+}
@@ -0,0 +1,108 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoClockLivreDeTravas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoLRUComBuffer;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoLRUFragmentado;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Um único cache compartilhado (Scope.Benchmark) acessado por todas as threads, uma
+ * referência por operação. O número de threads vem de fora (-t ou CacheConcorrenteRunner,
+ * que varre de 1 até o número de núcleos); a vazão por número de threads mostra a escala e
+ * a contenção de cada variante.
+ *
+ * Cada thread percorre o mesmo trace a partir de um deslocamento próprio, para não andarem
+ * em fila. Os contadores auxiliares (faults, acessos) mostram quanto a concorrência custa
+ * em taxa de acerto.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheConcorrenteBenchmark {
+
+    @Param({
+    "locality_lg_medium_hot70",
+    "phases_lg_wide_p8",
+    "random_lg_wide"
+})
+    private String workload;
+
+    @Param({"64", "1024"})
+    private int frames;
+
+    // LRUTravaUnica = LRU com um único fragmento, a linha de base com trava global
+    @Param({"LRUTravaUnica", "LRUFragmentado", "ClockLivreDeTravas", "LRUComBuffer"})
+    private String algoritmo;
+
+    private int[] sequence;
+    private AlgoritmoSubstituicaoPages cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        sequence = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+        int universo = IndiceResidencia.universo(sequence);
+        cache = switch (algoritmo) {
+            case "LRUTravaUnica"      -> new AlgoritmoLRUFragmentado(frames, 1);
+            case "LRUFragmentado"     -> new AlgoritmoLRUFragmentado(frames);
+            case "ClockLivreDeTravas" -> new AlgoritmoClockLivreDeTravas(frames, universo);
+            case "LRUComBuffer"       -> new AlgoritmoLRUComBuffer(frames, universo);
+            default -> throw new IllegalArgumentException("Algoritmo desconhecido: " + algoritmo);
+        };
+        System.gc();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Cursor {
+        private int[] sequence;
+        private int posicao;
+
+        public long faults;
+        public long acessos;
+
+        @Setup(Level.Iteration)
+        public void setup(CacheConcorrenteBenchmark estado, ThreadParams threads) {
+            sequence = estado.sequence;
+            posicao  = (int) ((long) sequence.length * threads.getThreadIndex() / threads.getThreadCount());
+            faults   = 0;
+            acessos  = 0;
+        }
+
+        int proxima() {
+            int page = sequence[posicao];
+            if (++posicao == sequence.length) posicao = 0;
+            return page;
+        }
+    }
+
+    @Benchmark
+    public boolean acesso(Cursor cursor) {
+        boolean fault = cache.accesso(cursor.proxima());
+        cursor.acessos++;
+        if (fault) cursor.faults++;
+        return fault;
+    }
+}
@@ -0,0 +1,43 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda o CacheConcorrenteBenchmark com 1, 2, 4, ... threads até o número de núcleos
+ * (sempre incluindo o próprio número de núcleos). Um JSON por contagem de threads em
+ * results/jmh_concorrente_t{N}.json.
+ *
+ * Uso: java -cp benchmarks/target/benchmarks.jar \
+ *        benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks.CacheConcorrenteRunner [maxThreads]
+ */
+public class CacheConcorrenteRunner {
+
+    public static void main(String[] args) throws Exception {
+        int maximo = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        List<Integer> contagens = new ArrayList<>();
+        for (int t = 1; t < maximo; t *= 2) contagens.add(t);
+        contagens.add(maximo);
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+
+        for (int threads : contagens) {
+            System.out.println("\n=== " + threads + " thread(s) ===");
+            Options opcoes = new OptionsBuilder()
+                    .include(CacheConcorrenteBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("results/jmh_concorrente_t" + threads + ".json")
+                    .build();
+            new Runner(opcoes).run();
+        }
+    }
+}
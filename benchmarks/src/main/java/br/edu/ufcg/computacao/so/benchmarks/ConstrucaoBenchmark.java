@@ -0,0 +1,92 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimoHeap;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * O que o AlgoritmoBenchmark deixa fora da medição: a construção de cada algoritmo (que
+ * depende de frames e do universo de páginas) e a montagem do índice de usos futuros dos
+ * dois Ótimos (que depende do tamanho do trace).
+ *
+ * Os benchmarks de índice só usam o estado do trace, então não se repetem por algoritmo.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstrucaoBenchmark {
+
+    // Universos de tamanhos diferentes (tight..huge) e os dois maiores traces
+    @Param({
+    "random_md_tight",
+    "random_md_medium",
+    "random_md_wide",
+    "random_md_huge",
+    "random_lg_wide",
+    "random_xl_wide"
+})
+    private String workload;
+
+    private int[] sequence;
+    private List<Integer> referencias;
+    private int universo;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        sequence    = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+        referencias = Algoritmos.lista(sequence);
+        universo    = IndiceResidencia.universo(sequence);
+        System.gc();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Politica {
+        @Param({"2", "4", "8", "16", "32", "64", "128"})
+        private int frames;
+
+        @Param({"FIFO", "LRU", "LRUPrimitivo", "LFU", "LFUBuckets", "Clock", "ClockNRU", "Random", "ARC", "LIRS", "ClockPro",
+                "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock", "Otimo", "OtimoHeap"})
+        private String algoritmo;
+    }
+
+    @Benchmark
+    public AlgoritmoSubstituicaoPages construir(Politica politica) {
+        return Algoritmos.criar(politica.algoritmo, politica.frames, universo);
+    }
+
+    // HashMap de page → lista de posições
+    @Benchmark
+    public AlgoritmoOtimo indiceOtimo() {
+        AlgoritmoOtimo algo = new AlgoritmoOtimo(1);
+        algo.carregarReferencias(referencias);
+        return algo;
+    }
+
+    // Um int de próximo uso por referência, calculado de trás pra frente
+    @Benchmark
+    public int[] indiceOtimoHeap() {
+        return AlgoritmoOtimoHeap.calcularProximosUsos(sequence);
+    }
+}
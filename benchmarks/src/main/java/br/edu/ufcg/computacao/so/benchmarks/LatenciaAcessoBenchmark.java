@@ -0,0 +1,92 @@
+package benchmarks.src.main.java.br.edu.ufcg.computacao.so.benchmarks;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribuição da latência de um único acesso (Mode.SampleTime): a média do
+ * AlgoritmoBenchmark esconde os acessos caros — um fault que percorre o relógio inteiro,
+ * uma promoção entre filas, o tick do Aging — que aparecem nos percentis altos.
+ *
+ * Cada operação é uma referência do trace; o tick entra na referência em que acontece,
+ * como a interrupção real. Ao fim do trace o algoritmo volta ao início com reset(),
+ * necessário para o Ótimo, cujo índice é por posição. Essa amostra inclui o reset, por
+ * isso só entram traces de 10 mil referências ou mais.
+ *
+ * A resolução do relógio (~20-30 ns) limita os percentis baixos: p50 de um hit aparece
+ * como o menor tick do System.nanoTime.
+ */
+@State(Scope.Thread)
+@Fork(value = 2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LatenciaAcessoBenchmark {
+
+    @Param({
+    "random_md_medium",
+    "random_lg_wide",
+    "locality_md_tight_hot90",
+    "locality_lg_medium_hot70",
+    "phases_md_medium_p4",
+    "phases_lg_wide_p8",
+    "sequential_md_medium"
+})
+    private String workload;
+
+    @Param({"8", "32", "128"})
+    private int frames;
+
+    @Param({"FIFO", "LRU", "LRUPrimitivo", "LFU", "LFUBuckets", "Clock", "ClockNRU", "Random", "ARC", "LIRS", "ClockPro",
+            "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock", "Otimo", "OtimoHeap"})
+    private String algoritmo;
+
+    private int[] sequence;
+    private AlgoritmoSubstituicaoPages algo;
+    private AlgoritmoComTick comTick;
+    private int posicao;
+    private int desdeTick;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        sequence = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+        algo = Algoritmos.criar(algoritmo, frames, IndiceResidencia.universo(sequence));
+        Algoritmos.prepararIndice(algo, sequence);
+        if (algo instanceof AlgoritmoComTick t) comTick = t;
+        System.gc();
+    }
+
+    @Benchmark
+    public boolean acesso() {
+        boolean fault = algo.accesso(sequence[posicao]);
+        if (comTick != null && ++desdeTick == Algoritmos.PERIODO_TICK) {
+            comTick.tick();
+            desdeTick = 0;
+        }
+        if (++posicao == sequence.length) {
+            algo.reset();
+            posicao   = 0;
+            desdeTick = 0;
+        }
+        return fault;
+    }
+}
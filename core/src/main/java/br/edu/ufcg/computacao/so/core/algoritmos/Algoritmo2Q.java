@@ -0,0 +1,164 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+/**
+ * 2Q (Johnson & Shasha, versão completa) — só promove para o LRU principal páginas que
+ * voltam depois de sair da fila de entrada, então uma varredura passa pela A1in sem
+ * mexer no conjunto quente.
+ *
+ * Estrutura: um pool de capacity + kOut + 1 nós em ListasIndexadas com três listas
+ *   - A1IN  : FIFO residente das páginas vistas uma vez (alvo kIn = 25% dos frames)
+ *   - A1OUT : FIFO fantasma (só a página) das que saíram da A1IN (kOut = 50% dos frames)
+ *   - AM    : LRU residente das páginas reacessadas, início = vítima
+ *
+ * Hit na A1IN não muda nada (a correlação de acessos próximos não conta como reuso);
+ * fault de página que está na A1OUT entra direto na AM.
+ */
+public class Algoritmo2Q implements AlgoritmoComDespejo {
+
+    private static final int A1IN  = 0;
+    private static final int A1OUT = 1;
+    private static final int AM    = 2;
+
+    private final int capacity;
+    private final int kIn;
+    private final int kOut;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+
+    private final int[]            paginas; // nó → página
+    private final ListasIndexadas  listas;
+    private final IndiceResidencia pageToNo; // residentes e fantasmas
+
+    public Algoritmo2Q(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public Algoritmo2Q(int capacity, int universo) {
+        this.capacity   = capacity;
+        this.kIn        = Math.max(1, capacity / 4);
+        this.kOut       = Math.max(1, capacity / 2);
+        int nos = capacity + kOut + 1;
+        this.paginas    = new int[nos];
+        this.listas     = new ListasIndexadas(nos, 3);
+        this.pageToNo   = new IndiceResidencia(nos, universo);
+        this.pageFaults = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+        int l  = no == IndiceResidencia.AUSENTE ? ListasIndexadas.NENHUM : listas.listaDe(no);
+
+        if (l == AM) {
+            // HIT, reposiciona para o final (MRU)
+            listas.moverParaFim(AM, no);
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+        if (l == A1IN) {
+            // HIT
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        // Tira da A1OUT antes de liberar o frame, para o corte da A1OUT não descartá-la
+        if (l == A1OUT) listas.remover(no);
+
+        if (listas.tamanho(A1IN) + listas.tamanho(AM) == capacity) liberarFrame();
+
+        if (l == A1OUT) {
+            // Voltou depois de sair da A1IN: reuso de verdade
+            listas.inserirFim(AM, no);
+        } else {
+            no = listas.alocar();
+            paginas[no] = page;
+            pageToNo.put(page, no);
+            listas.inserirFim(A1IN, no);
+        }
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    private void liberarFrame() {
+        if (Metricas.ATIVAS) metricas.despejo();
+        if (listas.tamanho(A1IN) > kIn || listas.tamanho(AM) == 0) {
+            // Sai da A1IN mas fica lembrada na A1OUT
+            int no = listas.removerPrimeiro(A1IN);
+            if (ouvinte != null) ouvinte.despejada(paginas[no]);
+            listas.inserirFim(A1OUT, no);
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            if (listas.tamanho(A1OUT) > kOut) descartar(listas.primeiro(A1OUT));
+        } else {
+            if (ouvinte != null) ouvinte.despejada(paginas[listas.primeiro(AM)]);
+            descartar(listas.primeiro(AM));
+        }
+    }
+
+    private void descartar(int no) {
+        pageToNo.remove(paginas[no]);
+        listas.liberar(no);
+        if (Metricas.ATIVAS) metricas.trabalho(1);
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        listas.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
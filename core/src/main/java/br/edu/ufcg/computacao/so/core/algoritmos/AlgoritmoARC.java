@@ -0,0 +1,186 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+/**
+ * ARC (Adaptive Replacement Cache, Megiddo & Modha) — divide os frames entre páginas vistas
+ * uma vez (recência) e vistas mais de uma vez (frequência), ajustando a divisão pelos
+ * fantasmas das páginas despejadas recentemente.
+ *
+ * Estrutura: um pool de 2·capacity nós em ListasIndexadas com quatro listas
+ *   - T1 / T2 : residentes vistos uma vez / mais de uma vez
+ *   - B1 / B2 : fantasmas (só a página) despejados de T1 / T2
+ *   - p       : tamanho alvo de T1; hit em B1 aumenta p, hit em B2 diminui
+ *
+ * Hit em fantasma ainda é page fault — a página não está na memória.
+ */
+public class AlgoritmoARC implements AlgoritmoComDespejo {
+
+    private static final int T1 = 0;
+    private static final int T2 = 1;
+    private static final int B1 = 2;
+    private static final int B2 = 3;
+
+    private final int capacity;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int p; // alvo adaptativo para |T1|
+
+    private final int[]            paginas;  // nó → página
+    private final ListasIndexadas  listas;
+    private final IndiceResidencia pageToNo; // residentes e fantasmas
+
+    public AlgoritmoARC(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoARC(int capacity, int universo) {
+        this.capacity   = capacity;
+        this.paginas    = new int[2 * capacity];
+        this.listas     = new ListasIndexadas(2 * capacity, 4);
+        this.pageToNo   = new IndiceResidencia(2 * capacity, universo);
+        this.pageFaults = 0;
+        this.p          = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+        int l  = no == IndiceResidencia.AUSENTE ? ListasIndexadas.NENHUM : listas.listaDe(no);
+
+        if (l == T1 || l == T2) {
+            // HIT, passa a ser "frequente"
+            listas.moverParaFim(T2, no);
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (l == B1) {
+            // Fantasma recente: T1 estava pequeno demais
+            p = Math.min(capacity, p + Math.max(listas.tamanho(B2) / listas.tamanho(B1), 1));
+            substituir(false);
+            listas.moverParaFim(T2, no);
+            if (Metricas.ATIVAS) metricas.fault();
+            return true;
+        }
+        if (l == B2) {
+            // Fantasma frequente: T2 estava pequeno demais
+            p = Math.max(0, p - Math.max(listas.tamanho(B1) / listas.tamanho(B2), 1));
+            substituir(true);
+            listas.moverParaFim(T2, no);
+            if (Metricas.ATIVAS) metricas.fault();
+            return true;
+        }
+
+        // Página nova: mantém |T1| + |B1| <= c e o total <= 2c
+        int t1 = listas.tamanho(T1);
+        int b1 = listas.tamanho(B1);
+        if (t1 + b1 == capacity) {
+            if (t1 < capacity) {
+                descartar(B1);
+                substituir(false);
+            } else {
+                descartar(T1);
+            }
+        } else {
+            int total = t1 + b1 + listas.tamanho(T2) + listas.tamanho(B2);
+            if (total >= capacity) {
+                if (total == 2 * capacity) descartar(B2);
+                substituir(false);
+            }
+        }
+
+        no = listas.alocar();
+        paginas[no] = page;
+        pageToNo.put(page, no);
+        listas.inserirFim(T1, no);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Despeja o LRU de T1 ou de T2 (conforme p), deixando a página como fantasma
+    private void substituir(boolean fantasmaEmB2) {
+        int t1 = listas.tamanho(T1);
+        boolean deT1 = t1 > 0 && (t1 > p || (fantasmaEmB2 && t1 == p) || listas.tamanho(T2) == 0);
+        int no = listas.removerPrimeiro(deT1 ? T1 : T2);
+        if (ouvinte != null) ouvinte.despejada(paginas[no]);
+        listas.inserirFim(deT1 ? B1 : B2, no);
+        if (Metricas.ATIVAS) {
+            metricas.trabalho(1);
+            metricas.despejo();
+        }
+    }
+
+    // Esquece de vez o nó mais antigo da lista
+    private void descartar(int l) {
+        int no = listas.removerPrimeiro(l);
+        if (l == T1 && ouvinte != null) ouvinte.despejada(paginas[no]);
+        pageToNo.remove(paginas[no]);
+        listas.liberar(no);
+        if (Metricas.ATIVAS) {
+            metricas.trabalho(1);
+            if (l == T1) metricas.despejo(); // B1/B2 são só fantasmas
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        listas.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        p = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
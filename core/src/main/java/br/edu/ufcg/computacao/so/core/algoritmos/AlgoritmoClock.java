@@ -1,36 +1,47 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Clock (Segunda Chance) — é como FIFO, mas com bit de "segunda chance".
  *
  * Estrutura: buffer circular (array de slots) + ponteiro.
  *   Cada slot guarda: página + bit de referência.
+ *   pageToSlot: IndiceResidencia (tabela direta ou mapa primitivo), sem boxing.
  *
  * Regra de substituição:
  *   1. Se bit do slot atual == 1, zerar o bit, avançar o ponteiro (segunda chance).
  *   2. Se bit do slot atual == 0, este é a vítima; substituir e avançar o ponteiro.
  */
-public class AlgoritmoClock implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoClock implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
     private int hand; // posição atual do ponteiro do relógio
 
     private final int[]     pages;    // páginas nos frames
     private final boolean[] refBit;   // bits de referência
-    private final Map<Integer, Integer> pageToSlot; // page → índice no array
+    private final IndiceResidencia pageToSlot; // page → índice no array
 
     public AlgoritmoClock(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoClock(int capacity, int universo) {
         this.capacity   = capacity;
         this.pages      = new int[capacity];
         this.refBit     = new boolean[capacity];
-        this.pageToSlot = new HashMap<>();
+        this.pageToSlot = new IndiceResidencia(capacity, universo);
         this.pageFaults = 0;
         this.hand       = 0;
 
@@ -39,9 +50,11 @@ public class AlgoritmoClock implements AlgoritmoSubstituicaoPages {
 
     @Override
     public boolean accesso(int page) {
-        if (pageToSlot.containsKey(page)) {
+        int slot = pageToSlot.get(page);
+        if (slot != IndiceResidencia.AUSENTE) {
             // HIT, seta o bit de referência
-            refBit[pageToSlot.get(page)] = true;
+            refBit[slot] = true;
+            if (Metricas.ATIVAS) metricas.hit();
             return false;
         }
 
@@ -52,27 +65,63 @@ public class AlgoritmoClock implements AlgoritmoSubstituicaoPages {
         while (refBit[hand]) {
             refBit[hand] = false; // segunda chance: zera o bit
             hand = (hand + 1) % capacity;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
         }
 
         // se tem bit == 0: é a vítima
         int victim = pages[hand];
         if (victim != -1) {
             pageToSlot.remove(victim);
+            if (ouvinte != null) ouvinte.despejada(victim);
+            if (Metricas.ATIVAS) metricas.despejo();
         }
+        if (Metricas.ATIVAS) metricas.trabalho(1); // o frame com bit 0
 
         pages[hand]  = page;
         refBit[hand] = true;
         pageToSlot.put(page, hand);
 
         hand = (hand + 1) % capacity;
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() {
         return pageFaults;
     }
 
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -85,5 +134,6 @@ public class AlgoritmoClock implements AlgoritmoSubstituicaoPages {
         pageToSlot.clear();
         pageFaults = 0;
         hand = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComEscrita;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+import java.util.Arrays;
+
+/**
+ * Clock com as quatro classes do NRU (segunda chance melhorada): cada frame tem o bit R
+ * (referenciada) e o bit M (modificada), e a vítima é procurada na ordem
+ *
+ *   classe 0: R=0, M=0  — nem usada nem suja, despejo de graça
+ *   classe 1: R=0, M=1  — custa uma gravação, mas não foi usada
+ *   classe 2: R=1, M=0
+ *   classe 3: R=1, M=1
+ *
+ * Regra de substituição (o ponteiro continua de onde parou):
+ *   1. Uma volta procurando classe 0, sem mexer nos bits.
+ *   2. Uma volta procurando classe 1, zerando o R de quem passa.
+ *   3. Se não achou, todos estão com R=0: repete a partir do passo 1.
+ * São no máximo quatro voltas. Troca faults por write-backs: uma página limpa pouco
+ * usada sai antes de uma suja.
+ *
+ * O M só é desligado no despejo (a página volta limpa do disco).
+ */
+public class AlgoritmoClockNRU implements AlgoritmoComEscrita, AlgoritmoComDespejo {
+
+    private final int capacity;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int hand;      // posição atual do ponteiro do relógio
+    private int usados;    // frames ocupados (enche antes de girar)
+    private int proximaEscrita = -1; // página da escrita anunciada por escrita()
+
+    private final int[]     pages;    // páginas nos frames
+    private final boolean[] refBit;   // bit R
+    private final boolean[] modBit;   // bit M
+    private final IndiceResidencia pageToSlot; // page → índice no array
+
+    public AlgoritmoClockNRU(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoClockNRU(int capacity, int universo) {
+        this.capacity   = capacity;
+        this.pages      = new int[capacity];
+        this.refBit     = new boolean[capacity];
+        this.modBit     = new boolean[capacity];
+        this.pageToSlot = new IndiceResidencia(capacity, universo);
+
+        Arrays.fill(pages, -1);
+    }
+
+    @Override
+    public void escrita(int page) {
+        proximaEscrita = page;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        boolean escrita = page == proximaEscrita;
+        proximaEscrita = -1;
+
+        int slot = pageToSlot.get(page);
+        if (slot != IndiceResidencia.AUSENTE) {
+            // HIT
+            refBit[slot] = true;
+            if (escrita) modBit[slot] = true;
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (usados < capacity) {
+            slot = usados++;
+        } else {
+            slot = vitima();
+            pageToSlot.remove(pages[slot]);
+            if (ouvinte != null) ouvinte.despejada(pages[slot]);
+            if (Metricas.ATIVAS) metricas.despejo();
+        }
+
+        pages[slot]  = page;
+        refBit[slot] = true;
+        modBit[slot] = escrita;
+        pageToSlot.put(page, slot);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Deixa o ponteiro logo depois da vítima, como no Clock
+    private int vitima() {
+        while (true) {
+            for (int k = 0; k < capacity; k++) {
+                int slot = avancar();
+                if (!refBit[slot] && !modBit[slot]) return slot;
+            }
+            for (int k = 0; k < capacity; k++) {
+                int slot = avancar();
+                if (!refBit[slot]) return slot; // M=1, senão teria parado na volta anterior
+                refBit[slot] = false;
+            }
+        }
+    }
+
+    private int avancar() {
+        int slot = hand;
+        hand = (hand + 1) % capacity;
+        if (Metricas.ATIVAS) metricas.trabalho(1);
+        return slot;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(pages, -1);
+        Arrays.fill(refBit, false);
+        Arrays.fill(modBit, false);
+        pageToSlot.clear();
+        pageFaults = 0;
+        hand = 0;
+        usados = 0;
+        proximaEscrita = -1;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
@@ -0,0 +1,282 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+/**
+ * CLOCK-Pro (Jiang, Chen & Zhang) — aproximação do LIRS com o custo de um Clock:
+ * um hit só liga o bit de referência, e a distância de reuso é estimada por três ponteiros
+ * girando sobre um único anel.
+ *
+ * Estrutura: anel circular (ListasIndexadas de uma lista, lida com volta) de entradas
+ *   - QUENTE : residente com reuso curto (equivale a LIR)
+ *   - FRIO   : residente; recém-chegado fica "em teste" até a maoQuente passar por ele
+ *   - TESTE  : fria despejada ainda em teste (não residente, só metadado)
+ *   - maoFria   : despeja frios sem referência; frio referenciado em teste vira quente
+ *   - maoQuente : rebaixa quentes sem referência e encerra testes pelo caminho
+ *   - maoTeste  : encerra testes quando há mais de capacity entradas TESTE
+ *
+ * memFria é o alvo adaptativo de frames frios: sobe quando uma página em TESTE é
+ * reacessada (o frio estava pequeno demais) e desce quando um teste termina sem reuso.
+ * Como no LIRS, enquanto há frames livres as páginas novas preenchem primeiro a fatia quente.
+ * Entradas novas entram logo antes da maoQuente. Os ponteiros não chamam uns aos outros:
+ * cada um só age sobre o seu tipo de entrada, o que garante término mesmo com 1 frame.
+ */
+public class AlgoritmoClockPro implements AlgoritmoComDespejo {
+
+    private static final int ANEL = 0;
+
+    private static final byte QUENTE = 0;
+    private static final byte FRIO   = 1;
+    private static final byte TESTE  = 2;
+
+    private final int capacity;
+    private final int maxFria;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int memFria;
+    private int quentes;
+    private int frios;
+    private int testes;
+
+    private int maoQuente;
+    private int maoFria;
+    private int maoTeste;
+
+    private final int[]            paginas; // nó → página
+    private final byte[]           tipo;
+    private final boolean[]        refBit;
+    private final boolean[]        emTeste; // só para FRIO (TESTE está sempre em teste)
+    private final ListasIndexadas  anel;
+    private final IndiceResidencia pageToNo; // residentes e entradas TESTE
+
+    public AlgoritmoClockPro(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoClockPro(int capacity, int universo) {
+        // Até capacity residentes + capacity testes, mais o teste criado antes do corte
+        int nos = 2 * capacity + 1;
+        this.capacity = capacity;
+        this.maxFria  = Math.max(1, capacity - 1); // sempre sobra ao menos um frame quente
+        this.paginas  = new int[nos];
+        this.tipo     = new byte[nos];
+        this.refBit   = new boolean[nos];
+        this.emTeste  = new boolean[nos];
+        this.anel     = new ListasIndexadas(nos, 1);
+        this.pageToNo = new IndiceResidencia(nos, universo);
+        inicializar();
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+        if (no != IndiceResidencia.AUSENTE && tipo[no] != TESTE) {
+            // HIT, só marca a referência
+            refBit[no] = true;
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        boolean reuso = no != IndiceResidencia.AUSENTE;
+        if (reuso) {
+            // Reacesso durante o teste: reuso curto, o frio merece mais frames
+            if (memFria < maxFria) memFria++;
+            remover(no);
+            testes--;
+        }
+
+        // Aquecimento (como no LIRS): enquanto há frames livres, a fatia quente é preenchida primeiro
+        boolean quente = reuso || (quentes + frios < capacity && quentes < capacity - memFria);
+        if (quentes + frios == capacity) rodarMaoFria();
+
+        no = anel.alocar();
+        paginas[no] = page;
+        refBit[no]  = false;
+        pageToNo.put(page, no);
+        if (quente) {
+            tipo[no] = QUENTE;
+            quentes++;
+        } else {
+            tipo[no]    = FRIO;
+            emTeste[no] = true;
+            frios++;
+        }
+        inserirAntesDaMaoQuente(no);
+
+        while (quentes > capacity - memFria) rodarMaoQuente();
+        while (testes > capacity) rodarMaoTeste();
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Gira até despejar um frio; frios referenciados ganham outra volta (ou viram quentes)
+    private void rodarMaoFria() {
+        while (true) {
+            if (frios == 0) {
+                rodarMaoQuente();
+                continue;
+            }
+            int no = maoFria;
+            maoFria = proximo(no);
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            if (tipo[no] != FRIO) continue;
+
+            if (refBit[no]) {
+                refBit[no] = false;
+                if (emTeste[no]) {
+                    tipo[no] = QUENTE;
+                    frios--;
+                    quentes++;
+                } else {
+                    emTeste[no] = true;
+                }
+                continue;
+            }
+
+            // Vítima
+            frios--;
+            if (Metricas.ATIVAS) metricas.despejo();
+            if (ouvinte != null) ouvinte.despejada(paginas[no]);
+            if (emTeste[no]) {
+                tipo[no] = TESTE;
+                testes++;
+            } else {
+                remover(no);
+            }
+            return;
+        }
+    }
+
+    private void rodarMaoQuente() {
+        int no = maoQuente;
+        maoQuente = proximo(no);
+        if (Metricas.ATIVAS) metricas.trabalho(1);
+        if (tipo[no] == QUENTE) {
+            if (refBit[no]) {
+                refBit[no] = false;
+            } else {
+                tipo[no]    = FRIO;
+                emTeste[no] = false;
+                quentes--;
+                frios++;
+            }
+        } else {
+            encerrarTeste(no);
+        }
+    }
+
+    private void rodarMaoTeste() {
+        int no = maoTeste;
+        maoTeste = proximo(no);
+        if (Metricas.ATIVAS) metricas.trabalho(1);
+        if (tipo[no] != QUENTE) encerrarTeste(no);
+    }
+
+    // Teste acabou sem reuso: o frio precisava de menos frames
+    private void encerrarTeste(int no) {
+        if (tipo[no] == TESTE) {
+            remover(no);
+            testes--;
+        } else if (emTeste[no]) {
+            emTeste[no] = false;
+        } else {
+            return;
+        }
+        if (memFria > 1) memFria--;
+    }
+
+    // Antes do primeiro nó da lista é o mesmo lugar do anel que depois do último
+    private void inserirAntesDaMaoQuente(int no) {
+        if (maoQuente == ListasIndexadas.NENHUM) {
+            anel.inserirFim(ANEL, no);
+            maoQuente = maoFria = maoTeste = no;
+        } else {
+            anel.inserirAntes(ANEL, maoQuente, no);
+        }
+    }
+
+    private void remover(int no) {
+        pageToNo.remove(paginas[no]);
+        int seguinte = proximo(no);
+        if (no == maoQuente) maoQuente = seguinte;
+        if (no == maoFria)   maoFria   = seguinte;
+        if (no == maoTeste)  maoTeste  = seguinte;
+        anel.liberar(no);
+        if (anel.tamanho(ANEL) == 0) maoQuente = maoFria = maoTeste = ListasIndexadas.NENHUM;
+    }
+
+    private int proximo(int no) {
+        int p = anel.proximo(no);
+        return p == ListasIndexadas.NENHUM ? anel.primeiro(ANEL) : p;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        anel.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        quentes    = 0;
+        frios      = 0;
+        testes     = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+        inicializar();
+    }
+
+    // Estado inicial que não é zero; privado para o construtor não chamar método sobrescrevível
+    private void inicializar() {
+        memFria   = Math.max(1, capacity / 100); // começa como o LIRS: 1% para os frios
+        maoQuente = maoFria = maoTeste = ListasIndexadas.NENHUM;
+    }
+}
@@ -1,6 +1,9 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
 
 import java.util.Arrays;
 
@@ -8,18 +11,30 @@ import java.util.Arrays;
  * FIFO (First-In, First-Out) — substitui a página mais antiga na memória.
  *
  * Estrutura: array circular simples + ponteiro de cabeça.
+ *   - residentes : IndiceResidencia page → slot, detecção de hit em O(1)
  */
-public class AlgoritmoFIFO implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoFIFO implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
     private int head; // aponta pro slot mais antigo (próxima vítima)
 
     private final int[] pages; // circular
+    private final IndiceResidencia residentes;
 
     public AlgoritmoFIFO(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoFIFO(int capacity, int universo) {
         this.capacity   = capacity;
         this.pages      = new int[capacity];
+        this.residentes = new IndiceResidencia(capacity, universo);
         this.pageFaults = 0;
         this.head       = 0;
 
@@ -28,27 +43,68 @@ public class AlgoritmoFIFO implements AlgoritmoSubstituicaoPages {
 
     @Override
     public boolean accesso(int page) {
-        for (int i = 0; i < capacity; i++) {
-            if (pages[i] == page) return false; // HIT
+        if (residentes.contem(page)) {
+            // HIT
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
         }
 
         // FAULT
         pageFaults++;
+        if (pages[head] != -1) {
+            residentes.remove(pages[head]);
+            if (ouvinte != null) ouvinte.despejada(pages[head]);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
+        }
         pages[head] = page;
+        residentes.put(page, head);
         head = (head + 1) % capacity;
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() { return pageFaults; }
 
+    @Override
+    public Metricas getMetricas() { return metricas; }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) { this.ouvinte = ouvinte; }
+
     @Override
     public int getCapacity() { return capacity; }
 
     @Override
     public void reset() {
         Arrays.fill(pages, -1);
+        residentes.clear();
         pageFaults = 0;
         head = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
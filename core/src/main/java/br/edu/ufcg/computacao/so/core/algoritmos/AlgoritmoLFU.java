@@ -1,6 +1,8 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -12,10 +14,12 @@ import java.util.Map;
  *   - frequency  : page → contagem de acessos
  *   - lastAccess : page → instante lógico do último acesso (desempate: remove a menos recente)
  */
-public class AlgoritmoLFU implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoLFU implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
     private long clock; // instante lógico global
 
     private final Map<Integer, Integer> frequency;  // page freq
@@ -37,6 +41,7 @@ public class AlgoritmoLFU implements AlgoritmoSubstituicaoPages {
             // HIT, incrementa frequência e atualiza instante
             frequency.put(page, frequency.get(page) + 1);
             lastAccess.put(page, clock);
+            if (Metricas.ATIVAS) metricas.hit();
             return false;
         }
 
@@ -61,19 +66,56 @@ public class AlgoritmoLFU implements AlgoritmoSubstituicaoPages {
             }
 
             frequency.remove(victim);
+            if (ouvinte != null) ouvinte.despejada(victim);
             lastAccess.remove(victim);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(capacity); // varre todas as entradas
+                metricas.despejo();
+            }
         }
 
         frequency.put(page, 1);
         lastAccess.put(page, clock);
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() {
         return pageFaults;
     }
 
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -85,5 +127,6 @@ public class AlgoritmoLFU implements AlgoritmoSubstituicaoPages {
         lastAccess.clear();
         pageFaults = 0;
         clock = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.MapaInteiros;
+
+/**
+ * LFU em O(1) com baldes de frequência — mesma política do AlgoritmoLFU
+ * (menor contagem; empate → acesso menos recente), sem varrer os frames no fault.
+ *
+ * Estrutura:
+ *   - baldes   : lista de baldes em ordem crescente de frequência (um balde por contagem existente)
+ *   - entradas : cada balde é uma lista de frames, início = acesso mais antigo
+ *   - vítima   : primeiro frame do primeiro balde
+ *
+ * Num hit o frame passa do balde f para o balde f+1 (entrando no fim), então a ordem
+ * dentro de cada balde é a ordem do último acesso — o mesmo desempate do clock/lastAccess.
+ *
+ * Envelhecimento opcional: a cada periodoEnvelhecimento acessos todas as contagens são
+ * divididas por 2 (mínimo 1). Baldes que colidem são intercalados pelo instante do
+ * último acesso, preservando o desempate. Com período 0 o comportamento é o LFU clássico.
+ */
+public class AlgoritmoLFUBuckets implements AlgoritmoComDespejo {
+
+    private static final int ORDEM = 0; // única lista do pool de baldes
+
+    private final int capacity;
+    private final int periodoEnvelhecimento;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private long clock; // instante lógico global
+    private int usados; // frames já ocupados
+
+    // Por frame
+    private final int[]  paginas;
+    private final long[] instante;   // último acesso (só usado para intercalar no envelhecimento)
+    private final int[]  baldeDoFrame;
+
+    // Por balde
+    private final int[] frequencia;
+
+    private final ListasIndexadas baldes;
+    private final ListasIndexadas entradas;
+    private final MapaInteiros    pageToFrame;
+
+    public AlgoritmoLFUBuckets(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param periodoEnvelhecimento acessos entre cada divisão das contagens por 2 (0 = desligado)
+     */
+    public AlgoritmoLFUBuckets(int capacity, int periodoEnvelhecimento) {
+        if (periodoEnvelhecimento < 0) throw new IllegalArgumentException("periodoEnvelhecimento < 0");
+        this.capacity              = capacity;
+        this.periodoEnvelhecimento = periodoEnvelhecimento;
+        this.paginas               = new int[capacity];
+        this.instante              = new long[capacity];
+        this.baldeDoFrame          = new int[capacity];
+        // No máximo um balde por frame, mais um transitório durante o hit
+        this.frequencia            = new int[capacity + 1];
+        this.baldes                = new ListasIndexadas(capacity + 1, 1);
+        this.entradas              = new ListasIndexadas(capacity, capacity + 1);
+        this.pageToFrame           = new MapaInteiros(capacity);
+        this.pageFaults            = 0;
+        this.clock                 = 0;
+        this.usados                = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        clock++;
+        if (periodoEnvelhecimento > 0 && clock % periodoEnvelhecimento == 0) envelhecer();
+
+        int frame = pageToFrame.get(page);
+        if (frame != MapaInteiros.AUSENTE) {
+            // HIT, sobe para o balde f+1
+            promover(frame);
+            instante[frame] = clock;
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (usados == capacity) {
+            // Vítima: o mais antigo do balde de menor frequência
+            int balde = baldes.primeiro(ORDEM);
+            frame = entradas.removerPrimeiro(balde);
+            pageToFrame.remove(paginas[frame]);
+            if (ouvinte != null) ouvinte.despejada(paginas[frame]);
+            if (entradas.tamanho(balde) == 0) baldes.liberar(balde);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
+        } else {
+            frame = usados++;
+        }
+
+        int primeiro = baldes.primeiro(ORDEM);
+        int balde = primeiro;
+        if (primeiro == ListasIndexadas.NENHUM || frequencia[primeiro] != 1) {
+            balde = baldes.alocar();
+            frequencia[balde] = 1;
+            baldes.inserirInicio(ORDEM, balde);
+        }
+
+        paginas[frame]      = page;
+        instante[frame]     = clock;
+        baldeDoFrame[frame] = balde;
+        entradas.inserirFim(balde, frame);
+        pageToFrame.put(page, frame);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    private void promover(int frame) {
+        int atual = baldeDoFrame[frame];
+        int f = frequencia[atual];
+        int proximo = baldes.proximo(atual);
+
+        if (proximo == ListasIndexadas.NENHUM || frequencia[proximo] != f + 1) {
+            proximo = baldes.alocar();
+            frequencia[proximo] = f + 1;
+            baldes.inserirApos(ORDEM, atual, proximo);
+        }
+
+        entradas.remover(frame);
+        entradas.inserirFim(proximo, frame);
+        baldeDoFrame[frame] = proximo;
+
+        if (entradas.tamanho(atual) == 0) baldes.liberar(atual);
+    }
+
+    // Divide todas as contagens por 2 e junta os baldes que passam a ter a mesma frequência
+    private void envelhecer() {
+        int anterior = ListasIndexadas.NENHUM;
+        int balde = baldes.primeiro(ORDEM);
+        while (balde != ListasIndexadas.NENHUM) {
+            int seguinte = baldes.proximo(balde);
+            int f = Math.max(1, frequencia[balde] >>> 1);
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+
+            if (anterior != ListasIndexadas.NENHUM && frequencia[anterior] == f) {
+                intercalar(anterior, balde);
+                baldes.liberar(balde);
+            } else {
+                frequencia[balde] = f;
+                anterior = balde;
+            }
+            balde = seguinte;
+        }
+    }
+
+    // Move os frames de origem para destino mantendo destino ordenado pelo instante do último acesso
+    private void intercalar(int destino, int origem) {
+        int cursor = entradas.primeiro(destino);
+        int frame = entradas.primeiro(origem);
+        while (frame != ListasIndexadas.NENHUM) {
+            int seguinte = entradas.proximo(frame);
+            while (cursor != ListasIndexadas.NENHUM && instante[cursor] < instante[frame]) {
+                cursor = entradas.proximo(cursor);
+            }
+            entradas.remover(frame);
+            if (cursor == ListasIndexadas.NENHUM) entradas.inserirFim(destino, frame);
+            else entradas.inserirAntes(destino, cursor, frame);
+            baldeDoFrame[frame] = destino;
+            frame = seguinte;
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        baldes.limpar();
+        entradas.limpar();
+        pageToFrame.clear();
+        pageFaults = 0;
+        clock = 0;
+        usados = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
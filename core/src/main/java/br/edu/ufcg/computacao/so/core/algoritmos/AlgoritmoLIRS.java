@@ -0,0 +1,234 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+/**
+ * LIRS (Low Inter-reference Recency Set, Jiang & Zhang) — decide pela distância de reuso
+ * (IRR) em vez da recência: páginas reusadas com frequência viram LIR e ficam na memória;
+ * as demais (HIR) disputam uma fatia pequena dos frames. Uma varredura sequencial só
+ * passa pela fatia HIR, sem expulsar o conjunto quente.
+ *
+ * Estrutura:
+ *   - pilha S    : LIR + HIR vistos recentemente (residentes ou não), início = fundo, fim = topo
+ *   - fila Q     : HIR residentes, início = próxima vítima
+ *   - fantasmas  : HIR não residentes que ainda estão em S, início = mais antigo
+ *   - pageToNo   : IndiceResidencia page → nó (residentes e fantasmas)
+ *
+ * O fundo de S é sempre LIR (S é "podada" após cada mudança no fundo). Os fantasmas são
+ * limitados a limiteFantasmas; passando disso o mais antigo é esquecido.
+ * Um nó pode estar em S e em Q ao mesmo tempo, então são dois ListasIndexadas sobre os
+ * mesmos índices — os nós são alocados só pelo pool da pilha.
+ */
+public class AlgoritmoLIRS implements AlgoritmoComDespejo {
+
+    private static final int S         = 0;
+    private static final int FILA      = 0;
+    private static final int FANTASMAS = 1;
+
+    private final int capacity;
+    private final int limiteLir;       // frames para páginas LIR
+    private final int limiteFantasmas; // HIR não residentes mantidos em S
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int lirs;       // páginas LIR
+    private int residentes; // LIR + HIR residentes
+
+    private final int[]            paginas; // nó → página
+    private final boolean[]        lir;
+    private final ListasIndexadas  pilha;
+    private final ListasIndexadas  filas;
+    private final IndiceResidencia pageToNo;
+
+    public AlgoritmoLIRS(int capacity) {
+        this(capacity, 0);
+    }
+
+    public AlgoritmoLIRS(int capacity, int universo) {
+        this(capacity, universo, 2 * capacity);
+    }
+
+    /**
+     * @param universo        páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     * @param limiteFantasmas máximo de páginas não residentes lembradas
+     */
+    public AlgoritmoLIRS(int capacity, int universo, int limiteFantasmas) {
+        if (limiteFantasmas < 0) throw new IllegalArgumentException("limiteFantasmas < 0");
+        // 1% dos frames para HIR, como no artigo (pelo menos um)
+        int limiteHir = Math.max(1, capacity / 100);
+        this.capacity        = capacity;
+        this.limiteLir       = capacity - limiteHir;
+        this.limiteFantasmas = limiteFantasmas;
+        // +1: o fantasma excedente só é esquecido depois de alocar a página nova
+        int nos = capacity + limiteFantasmas + 1;
+        this.paginas    = new int[nos];
+        this.lir        = new boolean[nos];
+        this.pilha      = new ListasIndexadas(nos, 1);
+        this.filas      = new ListasIndexadas(nos, 2);
+        this.pageToNo   = new IndiceResidencia(nos, universo);
+        this.pageFaults = 0;
+        this.lirs       = 0;
+        this.residentes = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+
+        if (no != IndiceResidencia.AUSENTE) {
+            if (lir[no]) {
+                // HIT em LIR: vai para o topo; se era o fundo, poda
+                boolean eraFundo = pilha.primeiro(S) == no;
+                pilha.moverParaFim(S, no);
+                if (eraFundo) podar();
+                if (Metricas.ATIVAS) metricas.hit();
+                return false;
+            }
+            if (filas.listaDe(no) == FILA) {
+                // HIT em HIR residente
+                if (pilha.listaDe(no) != ListasIndexadas.NENHUM) {
+                    // Reuso dentro de S: IRR menor que o do LIR do fundo, troca de papel
+                    pilha.moverParaFim(S, no);
+                    filas.remover(no);
+                    tornarLir(no);
+                } else {
+                    pilha.inserirFim(S, no);
+                    filas.moverParaFim(FILA, no);
+                }
+                if (Metricas.ATIVAS) metricas.hit();
+                return false;
+            }
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (residentes == capacity) {
+            // Vítima: primeiro HIR residente; se ainda está em S, fica como fantasma
+            int vitima = filas.removerPrimeiro(FILA);
+            residentes--;
+            if (ouvinte != null) ouvinte.despejada(paginas[vitima]);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
+            if (pilha.listaDe(vitima) != ListasIndexadas.NENHUM) filas.inserirFim(FANTASMAS, vitima);
+            else esquecer(vitima);
+        }
+
+        if (no != IndiceResidencia.AUSENTE) {
+            // Fantasma em S: reuso com IRR conhecido, entra como LIR
+            filas.remover(no);
+            pilha.moverParaFim(S, no);
+            tornarLir(no);
+        } else {
+            no = pilha.alocar();
+            paginas[no] = page;
+            pageToNo.put(page, no);
+            pilha.inserirFim(S, no);
+            if (lirs < limiteLir) {
+                lir[no] = true;
+                lirs++;
+            } else {
+                lir[no] = false;
+                filas.inserirFim(FILA, no);
+            }
+        }
+        residentes++;
+
+        while (filas.tamanho(FANTASMAS) > limiteFantasmas) {
+            esquecer(filas.primeiro(FANTASMAS));
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+        }
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Promove a LIR; se passou do limite, o LIR do fundo de S vira HIR residente
+    private void tornarLir(int no) {
+        lir[no] = true;
+        lirs++;
+        if (lirs > limiteLir) {
+            podar(); // com um único frame S pode não ter LIR no fundo; no pior caso para em no
+            int fundo = pilha.removerPrimeiro(S);
+            lir[fundo] = false;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            lirs--;
+            filas.inserirFim(FILA, fundo);
+            podar();
+        }
+    }
+
+    // Remove do fundo de S tudo que não é LIR (fantasmas saem de vez)
+    private void podar() {
+        int fundo = pilha.primeiro(S);
+        while (fundo != ListasIndexadas.NENHUM && !lir[fundo]) {
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            if (filas.listaDe(fundo) == FANTASMAS) esquecer(fundo);
+            else pilha.remover(fundo);
+            fundo = pilha.primeiro(S);
+        }
+    }
+
+    private void esquecer(int no) {
+        pageToNo.remove(paginas[no]);
+        if (filas.listaDe(no) != ListasIndexadas.NENHUM) filas.remover(no);
+        pilha.liberar(no);
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        pilha.limpar();
+        filas.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        lirs = 0;
+        residentes = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
@@ -1,6 +1,8 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
 
 import java.util.LinkedHashSet;
 import java.util.Iterator;
@@ -12,10 +14,12 @@ import java.util.Iterator;
  *   - Primeiro elemento  = LRU (vítima)
  *   - Último elemento    = MRU (mais recente)
  */
-public class AlgoritmoLRU implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoLRU implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
 
     private final LinkedHashSet<Integer> frames;
 
@@ -31,6 +35,7 @@ public class AlgoritmoLRU implements AlgoritmoSubstituicaoPages {
             // HIT, reposiciona para o final (MRU)
             frames.remove(page);
             frames.add(page);
+            if (Metricas.ATIVAS) metricas.hit();
             return false;
         }
 
@@ -40,19 +45,56 @@ public class AlgoritmoLRU implements AlgoritmoSubstituicaoPages {
         if (frames.size() == capacity) {
             // Remove o primeiro elemento (LRU)
             Iterator<Integer> it = frames.iterator();
-            it.next();
+            int victim = it.next();
             it.remove();
+            if (ouvinte != null) ouvinte.despejada(victim);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
         }
 
         frames.add(page);
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() {
         return pageFaults;
     }
 
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -62,5 +104,6 @@ public class AlgoritmoLRU implements AlgoritmoSubstituicaoPages {
     public void reset() {
         frames.clear();
         pageFaults = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
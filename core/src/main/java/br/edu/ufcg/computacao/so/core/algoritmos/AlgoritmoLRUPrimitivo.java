@@ -0,0 +1,119 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.MapaInteiros;
+
+/**
+ * LRU com estruturas primitivas — mesma política (e mesmos page faults) do AlgoritmoLRU,
+ * sem boxing e sem alocação depois do construtor.
+ *
+ * Estrutura:
+ *   - pageToNo : MapaInteiros (endereçamento aberto) page → nó
+ *   - ordem    : lista intrusiva sobre arrays, início = LRU (vítima), fim = MRU
+ *   - paginas  : nó → página (para desfazer o mapeamento da vítima)
+ */
+public class AlgoritmoLRUPrimitivo implements AlgoritmoComDespejo {
+
+    private static final int LISTA = 0;
+
+    private final int capacity;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+
+    private final int[]           paginas;
+    private final ListasIndexadas ordem;
+    private final MapaInteiros    pageToNo;
+
+    public AlgoritmoLRUPrimitivo(int capacity) {
+        this.capacity   = capacity;
+        this.paginas    = new int[capacity];
+        this.ordem      = new ListasIndexadas(capacity, 1);
+        this.pageToNo   = new MapaInteiros(capacity);
+        this.pageFaults = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+        if (no != MapaInteiros.AUSENTE) {
+            // HIT, reposiciona para o final (MRU)
+            ordem.moverParaFim(LISTA, no);
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        no = ordem.alocar();
+        if (no == ListasIndexadas.NENHUM) {
+            // Sem frame livre: reaproveita o nó do primeiro elemento (LRU)
+            no = ordem.removerPrimeiro(LISTA);
+            pageToNo.remove(paginas[no]);
+            if (ouvinte != null) ouvinte.despejada(paginas[no]);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
+        }
+
+        paginas[no] = page;
+        pageToNo.put(page, no);
+        ordem.inserirFim(LISTA, no);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        ordem.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
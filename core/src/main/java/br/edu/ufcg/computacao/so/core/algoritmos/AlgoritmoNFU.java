@@ -0,0 +1,156 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+import java.util.Arrays;
+
+/**
+ * NFU (Not Frequently Used) — a cada tick soma o bit de referência de cada frame num
+ * contador e zera o bit. A vítima é a página com menor contagem. Não esquece nada:
+ * uma página muito usada no passado fica mesmo sem uso recente (ver AlgoritmoAging).
+ *
+ * Estrutura: arrays paralelos por frame (sem objeto por página)
+ *   - contador : ticks em que a página estava referenciada
+ *   - ref      : bit de referência desde o último tick (int, para o tick vetorizar)
+ *   - pageToSlot : IndiceResidencia page → frame
+ */
+public class AlgoritmoNFU implements AlgoritmoComTick, AlgoritmoComDespejo {
+
+    private final int capacity;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int usados; // frames já ocupados
+
+    private final int[] paginas;
+    private final int[] contador;
+    private final int[] ref;
+    private final IndiceResidencia pageToSlot;
+
+    public AlgoritmoNFU(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoNFU(int capacity, int universo) {
+        this.capacity   = capacity;
+        this.paginas    = new int[capacity];
+        this.contador   = new int[capacity];
+        this.ref        = new int[capacity];
+        this.pageToSlot = new IndiceResidencia(capacity, universo);
+        this.pageFaults = 0;
+        this.usados     = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int slot = pageToSlot.get(page);
+        if (slot != IndiceResidencia.AUSENTE) {
+            // HIT, só liga o bit de referência
+            ref[slot] = 1;
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (usados < capacity) {
+            slot = usados++;
+        } else {
+            slot = vitima();
+            pageToSlot.remove(paginas[slot]);
+            if (ouvinte != null) ouvinte.despejada(paginas[slot]);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(capacity); // varre todos os frames
+                metricas.despejo();
+            }
+        }
+
+        paginas[slot]  = page;
+        contador[slot] = 0;
+        ref[slot]      = 1;
+        pageToSlot.put(page, slot);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Menor contagem; o bit ainda não amostrado conta como meio tick
+    private int vitima() {
+        int melhor = 0;
+        long menor = Long.MAX_VALUE;
+        for (int i = 0; i < capacity; i++) {
+            long chave = ((long) contador[i] << 1) | ref[i];
+            if (chave < menor) {
+                menor  = chave;
+                melhor = i;
+            }
+        }
+        return melhor;
+    }
+
+    @Override
+    public void tick() {
+        for (int i = 0; i < usados; i++) {
+            contador[i] += ref[i];
+            ref[i] = 0;
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(contador, 0);
+        Arrays.fill(ref, 0);
+        pageToSlot.clear();
+        pageFaults = 0;
+        usados = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
@@ -1,6 +1,8 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,10 +17,12 @@ import java.util.Set;
  * Política: ao ocorrer um fault, substituir a página cujo PRÓXIMO uso
  * é o mais distante no futuro (ou que nunca mais será usada).
  */
-public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoOtimo implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
     private int posicaoAtual; // índice da referência sendo processada
 
     private final Set<Integer> frames;
@@ -28,7 +32,6 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
      * onde a página aparece na sequência de referências.
      */
     private final Map<Integer, List<Integer>> usosNextos;
-    private List<Integer> referencias = new ArrayList<>();
 
     public AlgoritmoOtimo(int capacity) {
         this.capacity     = capacity;
@@ -45,7 +48,6 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
      * @param referencias sequência completa de referências de páginas
      */
     public void carregarReferencias(List<Integer> referencias) {
-        this.referencias = referencias;
         usosNextos.clear();
         for (int i = 0; i < referencias.size(); i++) {
             int page = referencias.get(i);
@@ -58,6 +60,7 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
         if (frames.contains(page)) {
             // HIT
             posicaoAtual++;
+            if (Metricas.ATIVAS) metricas.hit();
             return false;
         }
 
@@ -78,10 +81,13 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
             }
 
             frames.remove(victim);
+            if (ouvinte != null) ouvinte.despejada(victim);
+            if (Metricas.ATIVAS) metricas.despejo();
         }
 
         frames.add(page);
         posicaoAtual++;
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
@@ -95,6 +101,7 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
         int lo = 0, hi = usos.size();
         while (lo < hi) {
             int mid = (lo + hi) >>> 1;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
             if (usos.get(mid) <= posicaoAtual) lo = mid + 1;
             else hi = mid;
         }
@@ -102,22 +109,53 @@ public class AlgoritmoOtimo implements AlgoritmoSubstituicaoPages {
         return (lo < usos.size()) ? usos.get(lo) : Integer.MAX_VALUE;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() {
         return pageFaults;
     }
 
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
     }
 
+    /** Limpa os frames e volta para o início da sequência; o índice de usos futuros é mantido (só é lido). */
     @Override
     public void reset() {
         frames.clear();
-        usosNextos.clear();
         pageFaults = 0;
         posicaoAtual = 0;
-        carregarReferencias(this.referencias);
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.MapaInteiros;
+
+/**
+ * Ótimo (Bélády) com heap — mesma política do AlgoritmoOtimo, com fault em O(log frames).
+ *
+ * Estrutura:
+ *   - proximoUso : posição i → próxima posição onde a página de i aparece de novo
+ *                  (Integer.MAX_VALUE se nunca mais), calculado numa passada de trás pra frente
+ *   - heap       : max-heap indexado de frames, chave = próximo uso da página residente
+ *   - vítima     : raiz do heap (uso mais distante no futuro)
+ *
+ * A sequência passada para accesso() deve ser a mesma entregue a carregarReferencias().
+ */
+public class AlgoritmoOtimoHeap implements AlgoritmoComDespejo {
+
+    public static final int NUNCA = Integer.MAX_VALUE;
+
+    private final int capacity;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int posicaoAtual; // índice da referência sendo processada
+    private int tamanho;      // frames ocupados (= elementos no heap)
+
+    private int[] proximoUso = new int[0];
+
+    private final int[] heap;      // posição no heap → frame
+    private final int[] posNoHeap; // frame → posição no heap
+    private final int[] chave;     // frame → próximo uso da página
+    private final int[] paginas;   // frame → página
+    private final MapaInteiros pageToFrame;
+
+    public AlgoritmoOtimoHeap(int capacity) {
+        this.capacity     = capacity;
+        this.heap         = new int[capacity];
+        this.posNoHeap    = new int[capacity];
+        this.chave        = new int[capacity];
+        this.paginas      = new int[capacity];
+        this.pageToFrame  = new MapaInteiros(capacity);
+        this.pageFaults   = 0;
+        this.posicaoAtual = 0;
+        this.tamanho      = 0;
+    }
+
+    /**
+     * Monta o índice de próximos usos. Deve ser chamado uma vez antes de iniciar os acessos.
+     *
+     * @param referencias sequência completa de referências de páginas
+     */
+    public void carregarReferencias(int[] referencias) {
+        carregarProximosUsos(calcularProximosUsos(referencias));
+    }
+
+    /**
+     * Usa um índice já calculado por calcularProximosUsos (pode ser compartilhado, só é lido).
+     */
+    public void carregarProximosUsos(int[] proximosUsos) {
+        this.proximoUso = proximosUsos;
+    }
+
+    /**
+     * Para cada posição i, a próxima posição j > i com referencias[j] == referencias[i],
+     * ou NUNCA. Uma passada de trás pra frente, 4 bytes por referência.
+     */
+    public static int[] calcularProximosUsos(int[] referencias) {
+        int[] proximos = new int[referencias.length];
+        MapaInteiros ultimaPosicao = new MapaInteiros(1024);
+        for (int i = referencias.length - 1; i >= 0; i--) {
+            int page = referencias[i];
+            int j = ultimaPosicao.get(page);
+            proximos[i] = (j == MapaInteiros.AUSENTE) ? NUNCA : j;
+            ultimaPosicao.put(page, i);
+        }
+        return proximos;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int proximo = posicaoAtual < proximoUso.length ? proximoUso[posicaoAtual] : NUNCA;
+        posicaoAtual++;
+
+        int frame = pageToFrame.get(page);
+        if (frame != MapaInteiros.AUSENTE) {
+            // HIT, atualiza a chave (o próximo uso só anda pra frente)
+            chave[frame] = proximo;
+            ajustar(posNoHeap[frame]);
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (tamanho == capacity) {
+            // Vítima: raiz do heap, o frame é reaproveitado no lugar
+            frame = heap[0];
+            pageToFrame.remove(paginas[frame]);
+            if (ouvinte != null) ouvinte.despejada(paginas[frame]);
+            if (Metricas.ATIVAS) metricas.despejo();
+            paginas[frame] = page;
+            chave[frame]   = proximo;
+            descer(0);
+        } else {
+            frame = tamanho;
+            paginas[frame]  = page;
+            chave[frame]    = proximo;
+            heap[tamanho]   = frame;
+            subir(tamanho++);
+        }
+
+        pageToFrame.put(page, frame);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    private void ajustar(int pos) {
+        if (subir(pos) == pos) descer(pos);
+    }
+
+    private int subir(int pos) {
+        int frame = heap[pos];
+        int k = chave[frame];
+        while (pos > 0) {
+            int pai = (pos - 1) >>> 1;
+            int framePai = heap[pai];
+            if (chave[framePai] >= k) break;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            heap[pos] = framePai;
+            posNoHeap[framePai] = pos;
+            pos = pai;
+        }
+        heap[pos] = frame;
+        posNoHeap[frame] = pos;
+        return pos;
+    }
+
+    private void descer(int pos) {
+        int frame = heap[pos];
+        int k = chave[frame];
+        int metade = tamanho >>> 1;
+        while (pos < metade) {
+            int filho = 2 * pos + 1;
+            int direito = filho + 1;
+            if (direito < tamanho && chave[heap[direito]] > chave[heap[filho]]) filho = direito;
+            int frameFilho = heap[filho];
+            if (k >= chave[frameFilho]) break;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            heap[pos] = frameFilho;
+            posNoHeap[frameFilho] = pos;
+            pos = filho;
+        }
+        heap[pos] = frame;
+        posNoHeap[frame] = pos;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Limpa os frames e volta para o início da sequência; o índice de próximos usos é mantido. */
+    @Override
+    public void reset() {
+        pageToFrame.clear();
+        pageFaults   = 0;
+        posicaoAtual = 0;
+        tamanho      = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
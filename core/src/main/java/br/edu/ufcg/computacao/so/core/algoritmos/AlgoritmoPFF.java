@@ -0,0 +1,214 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoAlocacaoVariavel;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+import java.util.Arrays;
+
+/**
+ * PFF (Page Fault Frequency, Chu & Opderbeck) — ajusta o número de frames pela frequência
+ * de page faults, medida pelo intervalo (em referências) desde o fault anterior:
+ *   - intervalo < intervaloCurto : frequência acima do limite superior, ganha um frame
+ *   - intervalo > intervaloLongo : frequência abaixo do limite inferior, libera todas as
+ *                                  páginas não referenciadas desde o fault anterior
+ *   - entre os dois              : tamanho mantido, uma página não referenciada é substituída
+ *
+ * Estrutura: arrays paralelos por slot, compactos (remoção troca com o último)
+ *   - paginas    : slot → página
+ *   - ultimoUso  : instante do último acesso; "referenciada desde o fault" é ultimoUso >= ultimoFault,
+ *                  então os bits de uso não precisam ser zerados a cada fault
+ *   - pageToSlot : IndiceResidencia page → slot
+ *   - mao        : ponteiro circular da busca de vítima na faixa intermediária
+ */
+public class AlgoritmoPFF implements AlgoritmoAlocacaoVariavel {
+
+    private static final int SLOTS_INICIAIS = 16;
+
+    private final int intervaloCurto;
+    private final int intervaloLongo;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int residentes;
+    private int pico;
+    private int mao;
+    private long agora; // referências processadas
+    private long ultimoFault;
+    private long somaResidentes;
+
+    private int[]                  paginas;
+    private long[]                 ultimoUso;
+    private final IndiceResidencia pageToSlot;
+
+    public AlgoritmoPFF(int intervaloCurto, int intervaloLongo) {
+        this(intervaloCurto, intervaloLongo, 0);
+    }
+
+    /**
+     * @param intervaloCurto faults mais próximos que isso fazem o conjunto crescer
+     * @param intervaloLongo faults mais distantes que isso fazem o conjunto encolher
+     * @param universo       páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoPFF(int intervaloCurto, int intervaloLongo, int universo) {
+        if (intervaloCurto <= 0) throw new IllegalArgumentException("intervaloCurto <= 0");
+        if (intervaloLongo < intervaloCurto) throw new IllegalArgumentException("intervaloLongo < intervaloCurto");
+        this.intervaloCurto = intervaloCurto;
+        this.intervaloLongo = intervaloLongo;
+        this.paginas        = new int[SLOTS_INICIAIS];
+        this.ultimoUso      = new long[SLOTS_INICIAIS];
+        this.pageToSlot     = new IndiceResidencia(SLOTS_INICIAIS, universo);
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        agora++;
+        int slot = pageToSlot.get(page);
+        if (slot != IndiceResidencia.AUSENTE) {
+            // HIT
+            ultimoUso[slot] = agora;
+            amostrar();
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        long intervalo = agora - ultimoFault;
+        if (intervalo > intervaloLongo) {
+            liberarNaoReferenciadas();
+        } else if (intervalo >= intervaloCurto && residentes > 0) {
+            remover(vitima());
+        }
+        ultimoFault = agora;
+
+        if (residentes == paginas.length) {
+            paginas   = Arrays.copyOf(paginas, 2 * residentes);
+            ultimoUso = Arrays.copyOf(ultimoUso, 2 * residentes);
+        }
+        slot = residentes++;
+        paginas[slot]   = page;
+        ultimoUso[slot] = agora;
+        pageToSlot.put(page, slot);
+
+        amostrar();
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Frequência baixa: o conjunto fica só com o que foi usado desde o fault anterior
+    private void liberarNaoReferenciadas() {
+        // De trás para frente: o último, que vem para o slot removido, já foi examinado
+        if (Metricas.ATIVAS) metricas.trabalho(residentes);
+        for (int i = residentes - 1; i >= 0; i--) {
+            if (ultimoUso[i] < ultimoFault) remover(i);
+        }
+    }
+
+    // Primeira página não referenciada desde o fault anterior a partir da mão; se todas foram, a da mão
+    private int vitima() {
+        for (int n = 0; n < residentes; n++) {
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            if (ultimoUso[mao] < ultimoFault) return mao;
+            if (++mao == residentes) mao = 0;
+        }
+        return mao;
+    }
+
+    private void remover(int slot) {
+        pageToSlot.remove(paginas[slot]);
+        if (ouvinte != null) ouvinte.despejada(paginas[slot]);
+        if (Metricas.ATIVAS) metricas.despejo();
+        int ultimo = --residentes;
+        if (slot != ultimo) {
+            paginas[slot]   = paginas[ultimo];
+            ultimoUso[slot] = ultimoUso[ultimo];
+            pageToSlot.put(paginas[slot], slot);
+        }
+        if (mao >= residentes) mao = 0;
+    }
+
+    private void amostrar() {
+        somaResidentes += residentes;
+        if (residentes > pico) pico = residentes;
+    }
+
+    public int getIntervaloCurto() {
+        return intervaloCurto;
+    }
+
+    public int getIntervaloLongo() {
+        return intervaloLongo;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getResidentes() {
+        return residentes;
+    }
+
+    @Override
+    public int getPicoResidentes() {
+        return pico;
+    }
+
+    @Override
+    public double getMediaResidentes() {
+        return agora == 0 ? 0.0 : (double) somaResidentes / agora;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return pico;
+    }
+
+    @Override
+    public void reset() {
+        pageToSlot.clear();
+        pageFaults     = 0;
+        residentes     = 0;
+        pico           = 0;
+        mao            = 0;
+        agora          = 0;
+        ultimoFault    = 0;
+        somaResidentes = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
@@ -1,12 +1,11 @@
 package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
 
-import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
 
 /**
  * Random — substitui uma página escolhida aleatoriamente entre as que estão na memória.
@@ -14,66 +13,118 @@ import java.util.Set;
  * Algoritmo mais simples, serve para baseline dos piores algortimos
  *
  * Estrutura:
- *   - frames (Set)  : detecção de hit em O(1)
- *   - frameList     : lista para indexação aleatória em O(1)
+ *   - frames (IndiceResidencia) : page → posição em frameList, detecção de hit em O(1)
+ *   - frameList (int[])         : páginas residentes, para indexação aleatória em O(1)
+ *   - random (SplittableRandom) : sem sincronização, e reset() volta à semente inicial,
+ *                                 então o mesmo trace com a mesma semente dá os mesmos faults
  */
-public class AlgoritmoRandom implements AlgoritmoSubstituicaoPages {
+public class AlgoritmoRandom implements AlgoritmoComDespejo {
 
     private final int capacity;
     private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int usados; // posições ocupadas em frameList
 
-    private final Set<Integer>  frames;
-    private final List<Integer> frameList; // espelho do set para seleção aleatória
-    private final Random        random;
+    private final IndiceResidencia frames;
+    private final int[]            frameList; // espelho do índice para seleção aleatória
+    private final long             seed;
+    private SplittableRandom       random;
 
     public AlgoritmoRandom(int capacity) {
-        this(capacity, new Random());
+        this(capacity, 0, new SplittableRandom().nextLong());
     }
 
     //Construtor com seed para testes
     public AlgoritmoRandom(int capacity, long seed) {
-        this(capacity, new Random(seed));
+        this(capacity, 0, seed);
     }
 
-    private AlgoritmoRandom(int capacity, Random random) {
-        this.capacity  = capacity;
-        this.frames    = new HashSet<>();
-        this.frameList = new ArrayList<>();
-        this.random    = random;
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoRandom(int capacity, int universo, long seed) {
+        this.capacity   = capacity;
+        this.frames     = new IndiceResidencia(capacity, universo);
+        this.frameList  = new int[capacity];
+        this.seed       = seed;
+        this.random     = new SplittableRandom(seed);
         this.pageFaults = 0;
+        this.usados     = 0;
     }
 
     @Override
     public boolean accesso(int page) {
-        if (frames.contains(page)) {
+        if (frames.contem(page)) {
             // HIT
+            if (Metricas.ATIVAS) metricas.hit();
             return false;
         }
 
         // FAULT
         pageFaults++;
 
-        if (frames.size() == capacity) {
+        if (usados == capacity) {
             // Escolhe índice aleatório na lista e remove
-            int idx    = random.nextInt(frameList.size());
-            int victim = frameList.get(idx);
+            int idx    = random.nextInt(usados);
+            int victim = frameList[idx];
 
             frames.remove(victim);
+            if (ouvinte != null) ouvinte.despejada(victim);
             // Swap com o último para remoção
-            frameList.set(idx, frameList.get(frameList.size() - 1));
-            frameList.remove(frameList.size() - 1);
+            int ultimo = frameList[--usados];
+            if (idx != usados) {
+                frameList[idx] = ultimo;
+                frames.put(ultimo, idx);
+            }
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
         }
 
-        frames.add(page);
-        frameList.add(page);
+        frameList[usados] = page;
+        frames.put(page, usados++);
+        if (Metricas.ATIVAS) metricas.fault();
         return true;
     }
 
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     @Override
     public int getPageFaults() {
         return pageFaults;
     }
 
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -82,7 +133,9 @@ public class AlgoritmoRandom implements AlgoritmoSubstituicaoPages {
     @Override
     public void reset() {
         frames.clear();
-        frameList.clear();
+        random = new SplittableRandom(seed);
         pageFaults = 0;
+        usados = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+/**
+ * SLRU (Segmented LRU, Karedla et al.) — LRU dividido em dois segmentos: páginas novas
+ * entram no probatório e só passam para o protegido com um segundo acesso, então uma
+ * varredura despeja apenas páginas do probatório.
+ *
+ * Estrutura: um pool de capacity nós em ListasIndexadas com duas listas
+ *   - PROBATORIO : LRU de entrada, início = vítima
+ *   - PROTEGIDO  : LRU das páginas com hit (até 80% dos frames); o excedente volta
+ *                  para o fim do probatório
+ */
+public class AlgoritmoSLRU implements AlgoritmoComDespejo {
+
+    private static final int PROBATORIO = 0;
+    private static final int PROTEGIDO  = 1;
+
+    private final int capacity;
+    private final int maxProtegido;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+
+    private final int[]            paginas; // nó → página
+    private final ListasIndexadas  listas;
+    private final IndiceResidencia pageToNo;
+
+    public AlgoritmoSLRU(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoSLRU(int capacity, int universo) {
+        this.capacity     = capacity;
+        this.maxProtegido = capacity * 8 / 10;
+        this.paginas      = new int[capacity];
+        this.listas       = new ListasIndexadas(capacity, 2);
+        this.pageToNo     = new IndiceResidencia(capacity, universo);
+        this.pageFaults   = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int no = pageToNo.get(page);
+        if (no != IndiceResidencia.AUSENTE) {
+            // HIT, vai para o MRU do protegido
+            listas.moverParaFim(PROTEGIDO, no);
+            if (listas.tamanho(PROTEGIDO) > maxProtegido) {
+                listas.inserirFim(PROBATORIO, listas.removerPrimeiro(PROTEGIDO));
+                if (Metricas.ATIVAS) metricas.trabalho(1);
+            }
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        no = listas.alocar();
+        if (no == ListasIndexadas.NENHUM) {
+            // Sem frame livre: vítima é o LRU do probatório (ou do protegido, se vazio)
+            int segmento = listas.tamanho(PROBATORIO) > 0 ? PROBATORIO : PROTEGIDO;
+            no = listas.removerPrimeiro(segmento);
+            pageToNo.remove(paginas[no]);
+            if (ouvinte != null) ouvinte.despejada(paginas[no]);
+            if (Metricas.ATIVAS) {
+                metricas.trabalho(1);
+                metricas.despejo();
+            }
+        }
+
+        paginas[no] = page;
+        pageToNo.put(page, no);
+        listas.inserirFim(PROBATORIO, no);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        listas.limpar();
+        pageToNo.clear();
+        pageFaults = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
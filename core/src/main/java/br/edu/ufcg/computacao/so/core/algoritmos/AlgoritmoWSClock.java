@@ -0,0 +1,175 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+import java.util.Arrays;
+
+/**
+ * WSClock (Carr & Hennessy) — Clock sobre o working set: o ponteiro gira pelos frames e
+ * despeja a primeira página fora da janela tau (sem referência há mais de tau referências
+ * do tempo virtual). Se der a volta sem achar nenhuma, despeja a de uso mais antigo.
+ *
+ * Estrutura: arrays paralelos por frame (sem objeto por página)
+ *   - ultimoUso  : tempo virtual (referências) do último uso conhecido
+ *   - ref        : bit de referência desde o último tick (int, para o tick vetorizar)
+ *   - pageToSlot : IndiceResidencia page → frame
+ *
+ * O tick copia o tempo atual para ultimoUso dos frames referenciados e zera os bits;
+ * o ponteiro faz o mesmo com os bits que encontra ligados.
+ */
+public class AlgoritmoWSClock implements AlgoritmoComTick, AlgoritmoComDespejo {
+
+    private final int capacity;
+    private final long tau;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int usados; // frames já ocupados
+    private int hand;
+    private long agora; // tempo virtual: referências processadas
+
+    private final int[]  paginas;
+    private final long[] ultimoUso;
+    private final int[]  ref;
+    private final IndiceResidencia pageToSlot;
+
+    /**
+     * @param tau janela do working set, em referências
+     */
+    public AlgoritmoWSClock(int capacity, long tau) {
+        this(capacity, tau, 0);
+    }
+
+    /**
+     * @param tau      janela do working set, em referências
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoWSClock(int capacity, long tau, int universo) {
+        if (tau <= 0) throw new IllegalArgumentException("tau <= 0");
+        this.capacity   = capacity;
+        this.tau        = tau;
+        this.paginas    = new int[capacity];
+        this.ultimoUso  = new long[capacity];
+        this.ref        = new int[capacity];
+        this.pageToSlot = new IndiceResidencia(capacity, universo);
+        this.pageFaults = 0;
+        this.usados     = 0;
+        this.hand       = 0;
+        this.agora      = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        agora++;
+        int slot = pageToSlot.get(page);
+        if (slot != IndiceResidencia.AUSENTE) {
+            // HIT, só liga o bit de referência
+            ref[slot] = 1;
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        if (usados < capacity) {
+            slot = usados++;
+        } else {
+            slot = vitima();
+            pageToSlot.remove(paginas[slot]);
+            if (ouvinte != null) ouvinte.despejada(paginas[slot]);
+            if (Metricas.ATIVAS) metricas.despejo();
+            hand = (slot + 1) % capacity;
+        }
+
+        paginas[slot]   = page;
+        ultimoUso[slot] = agora;
+        ref[slot]       = 1;
+        pageToSlot.put(page, slot);
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    private int vitima() {
+        int maisAntigo = hand;
+        for (int passo = 0; passo < capacity; passo++) {
+            int i = hand;
+            hand = (hand + 1) % capacity;
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+            if (ref[i] != 0) {
+                // Usada desde o último tick: dentro do working set
+                ref[i] = 0;
+                ultimoUso[i] = agora;
+            } else if (agora - ultimoUso[i] > tau) {
+                return i;
+            }
+            if (ultimoUso[i] < ultimoUso[maisAntigo]) maisAntigo = i;
+        }
+        return maisAntigo;
+    }
+
+    @Override
+    public void tick() {
+        long t = agora;
+        for (int i = 0; i < usados; i++) {
+            if (ref[i] != 0) ultimoUso[i] = t;
+            ref[i] = 0;
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(ref, 0);
+        pageToSlot.clear();
+        pageFaults = 0;
+        usados = 0;
+        hand = 0;
+        agora = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
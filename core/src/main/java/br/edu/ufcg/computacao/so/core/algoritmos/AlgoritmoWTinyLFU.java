@@ -0,0 +1,180 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.SketchFrequencia;
+
+/**
+ * W-TinyLFU (Einziger, Friedman & Manes) — LRU pequeno na entrada e SLRU na região
+ * principal, com um filtro de admissão por frequência aproximada entre os dois.
+ *
+ * Estrutura: um pool de capacity + 1 nós em ListasIndexadas com três listas
+ *   - JANELA     : LRU com ~1% dos frames; toda página nova entra aqui
+ *   - PROBATORIO : segmento de entrada da região principal (20% dela)
+ *   - PROTEGIDO  : páginas com hit na região principal (80% dela)
+ *   - sketch     : SketchFrequencia (count-min de 4 bits + doorkeeper, com envelhecimento)
+ *
+ * Quando a janela transborda, o LRU dela (candidato) disputa com o LRU do probatório
+ * (vítima): entra na região principal só se a frequência estimada for maior. Como o
+ * sketch envelhece, páginas quentes de uma fase antiga perdem a disputa com o tempo.
+ */
+public class AlgoritmoWTinyLFU implements AlgoritmoComDespejo {
+
+    private static final int JANELA     = 0;
+    private static final int PROBATORIO = 1;
+    private static final int PROTEGIDO  = 2;
+
+    private final int capacity;
+    private final int maxJanela;
+    private final int maxPrincipal;
+    private final int maxProtegido;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+
+    private final int[]            paginas; // nó → página
+    private final ListasIndexadas  listas;
+    private final IndiceResidencia pageToNo;
+    private final SketchFrequencia sketch;
+
+    public AlgoritmoWTinyLFU(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoWTinyLFU(int capacity, int universo) {
+        this.capacity     = capacity;
+        this.maxJanela    = Math.max(1, capacity / 100);
+        this.maxPrincipal = capacity - maxJanela;
+        this.maxProtegido = maxPrincipal * 8 / 10;
+        // +1: a página nova é alocada antes de decidir quem sai
+        this.paginas      = new int[capacity + 1];
+        this.listas       = new ListasIndexadas(capacity + 1, 3);
+        this.pageToNo     = new IndiceResidencia(capacity + 1, universo);
+        this.sketch       = new SketchFrequencia(capacity);
+        this.pageFaults   = 0;
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        sketch.incrementar(page);
+
+        int no = pageToNo.get(page);
+        if (no != IndiceResidencia.AUSENTE) {
+            // HIT
+            switch (listas.listaDe(no)) {
+                case JANELA    -> listas.moverParaFim(JANELA, no);
+                case PROTEGIDO -> listas.moverParaFim(PROTEGIDO, no);
+                default        -> proteger(no);
+            }
+            if (Metricas.ATIVAS) metricas.hit();
+            return false;
+        }
+
+        // FAULT
+        pageFaults++;
+
+        no = listas.alocar();
+        paginas[no] = page;
+        pageToNo.put(page, no);
+        listas.inserirFim(JANELA, no);
+
+        if (listas.tamanho(JANELA) > maxJanela) {
+            int candidato = listas.removerPrimeiro(JANELA);
+            if (listas.tamanho(PROBATORIO) + listas.tamanho(PROTEGIDO) < maxPrincipal) {
+                listas.inserirFim(PROBATORIO, candidato);
+                if (Metricas.ATIVAS) metricas.trabalho(1);
+            } else {
+                admitir(candidato);
+            }
+        }
+        if (Metricas.ATIVAS) metricas.fault();
+        return true;
+    }
+
+    // Hit no probatório: sobe para o protegido; o excedente do protegido volta ao probatório
+    private void proteger(int no) {
+        listas.moverParaFim(PROTEGIDO, no);
+        if (listas.tamanho(PROTEGIDO) > maxProtegido) {
+            listas.inserirFim(PROBATORIO, listas.removerPrimeiro(PROTEGIDO));
+            if (Metricas.ATIVAS) metricas.trabalho(1);
+        }
+    }
+
+    // Região principal cheia: o candidato só entra se for mais frequente que a vítima
+    private void admitir(int candidato) {
+        int vitima = listas.primeiro(PROBATORIO);
+        if (vitima == ListasIndexadas.NENHUM) vitima = listas.primeiro(PROTEGIDO);
+        if (Metricas.ATIVAS) metricas.trabalho(2); // candidato e vítima consultados no sketch
+
+        if (vitima != ListasIndexadas.NENHUM
+                && sketch.frequencia(paginas[candidato]) > sketch.frequencia(paginas[vitima])) {
+            descartar(vitima);
+            listas.inserirFim(PROBATORIO, candidato);
+        } else {
+            descartar(candidato);
+        }
+    }
+
+    private void descartar(int no) {
+        pageToNo.remove(paginas[no]);
+        if (ouvinte != null) ouvinte.despejada(paginas[no]);
+        listas.liberar(no);
+        if (Metricas.ATIVAS) metricas.despejo();
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        listas.limpar();
+        pageToNo.clear();
+        sketch.limpar();
+        pageFaults = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
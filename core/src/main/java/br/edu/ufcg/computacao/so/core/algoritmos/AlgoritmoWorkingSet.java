@@ -0,0 +1,159 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoAlocacaoVariavel;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+/**
+ * Working Set (Denning) exato — residentes são as páginas referenciadas nas últimas tau
+ * referências, W(t, tau). Não há número fixo de frames: o conjunto cresce numa mudança de
+ * fase e encolhe sozinho quando as páginas antigas saem da janela.
+ *
+ * Estrutura:
+ *   - janela   : buffer circular com as últimas tau referências
+ *   - contagem : IndiceResidencia page → ocorrências na janela (ausente = fora do working set)
+ *
+ * Cada referência custa O(1): entra uma página na janela e sai a de tau referências atrás.
+ */
+public class AlgoritmoWorkingSet implements AlgoritmoAlocacaoVariavel {
+
+    private final int tau;
+    private int pageFaults;
+    private final Metricas metricas = Metricas.nova();
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+    private int residentes;
+    private int pico;
+    private long acessos;
+    private long somaResidentes;
+    private int pos; // próxima posição da janela (a mais antiga, quando cheia)
+
+    private final int[]            janela;
+    private final IndiceResidencia contagem;
+
+    public AlgoritmoWorkingSet(int tau) {
+        this(tau, 0);
+    }
+
+    /**
+     * @param tau      tamanho da janela, em referências
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoWorkingSet(int tau, int universo) {
+        if (tau <= 0) throw new IllegalArgumentException("tau <= 0");
+        this.tau      = tau;
+        this.janela   = new int[tau];
+        this.contagem = new IndiceResidencia(tau, universo);
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int ocorrencias = contagem.get(page);
+        boolean fault = ocorrencias == IndiceResidencia.AUSENTE;
+        if (fault) {
+            // FAULT: não foi referenciada nas últimas tau referências
+            pageFaults++;
+            residentes++;
+            ocorrencias = 0;
+        }
+        contagem.put(page, ocorrencias + 1);
+
+        // A referência de tau atrás sai da janela
+        if (acessos >= tau) sair(janela[pos]);
+        janela[pos] = page;
+        if (++pos == tau) pos = 0;
+
+        acessos++;
+        somaResidentes += residentes;
+        if (residentes > pico) pico = residentes;
+        if (Metricas.ATIVAS) {
+            if (fault) metricas.fault();
+            else metricas.hit();
+        }
+        return fault;
+    }
+
+    private void sair(int page) {
+        int ocorrencias = contagem.get(page);
+        if (ocorrencias == 1) {
+            contagem.remove(page);
+            residentes--;
+            if (ouvinte != null) ouvinte.despejada(page);
+            if (Metricas.ATIVAS) metricas.despejo();
+        } else {
+            contagem.put(page, ocorrencias - 1);
+        }
+    }
+
+    public int getTau() {
+        return tau;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getResidentes() {
+        return residentes;
+    }
+
+    @Override
+    public int getPicoResidentes() {
+        return pico;
+    }
+
+    @Override
+    public double getMediaResidentes() {
+        return acessos == 0 ? 0.0 : (double) somaResidentes / acessos;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    @Override
+    public Metricas getMetricas() {
+        return metricas;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return pico;
+    }
+
+    @Override
+    public void reset() {
+        contagem.clear();
+        pageFaults     = 0;
+        residentes     = 0;
+        pico           = 0;
+        acessos        = 0;
+        somaResidentes = 0;
+        pos            = 0;
+        if (Metricas.ATIVAS) metricas.limpar();
+    }
+}
@@ -0,0 +1,20 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Política de alocação variável: não há número fixo de frames, o conjunto residente cresce
+ * e encolhe conforme o comportamento do processo. O custo em memória é medido ao longo do
+ * replay (amostrado depois de cada referência) em vez de fixado de antemão.
+ *
+ * getCapacity() retorna o pico de residentes, o maior número de frames que chegou a ocupar.
+ */
+public interface AlgoritmoAlocacaoVariavel extends AlgoritmoComDespejo {
+
+    /** Páginas residentes agora. */
+    int getResidentes();
+
+    /** Maior número de páginas residentes ao mesmo tempo desde o último reset(). */
+    int getPicoResidentes();
+
+    /** Média de páginas residentes por referência processada (0 se nenhuma). */
+    double getMediaResidentes();
+}
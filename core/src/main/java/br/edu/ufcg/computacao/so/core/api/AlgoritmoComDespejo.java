@@ -0,0 +1,15 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Algoritmo que avisa cada despejo (ver OuvinteDespejo). É o que precisa quem acompanha o
+ * conjunto residente de fora, como PaginasSujas (write-backs) e LeituraAntecipada.
+ * As variantes de core.concorrente não implementam.
+ */
+public interface AlgoritmoComDespejo extends AlgoritmoSubstituicaoPages {
+
+    /**
+     * Registra quem é avisado a cada despejo (null desliga). O aviso sai no caminho do
+     * fault, nunca no do hit.
+     */
+    void setOuvinteDespejo(OuvinteDespejo ouvinte);
+}
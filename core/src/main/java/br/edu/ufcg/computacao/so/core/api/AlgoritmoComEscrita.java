@@ -0,0 +1,13 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Algoritmo que usa o bit M (modificada) na escolha da vítima, como o NRU: despejar uma
+ * página limpa é de graça, uma suja custa uma gravação em disco.
+ *
+ * Quem faz o replay chama escrita(page) imediatamente antes do accesso(page) de cada
+ * referência de escrita (ver PaginasSujas); as demais referências são leituras.
+ */
+public interface AlgoritmoComEscrita extends AlgoritmoSubstituicaoPages {
+
+    void escrita(int page);
+}
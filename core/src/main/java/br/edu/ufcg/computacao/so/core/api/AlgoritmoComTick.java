@@ -0,0 +1,11 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Algoritmo que depende de uma interrupção periódica do relógio, como nos kernels reais:
+ * o hit só liga o bit de referência, e a cada tick os bits são amostrados e zerados.
+ * Quem faz o replay chama tick() a cada N referências (ver Temporizador).
+ */
+public interface AlgoritmoComTick extends AlgoritmoSubstituicaoPages {
+
+    void tick();
+}
@@ -4,9 +4,48 @@ public interface AlgoritmoSubstituicaoPages {
 
     boolean accesso(int page);
 
+    /**
+     * Processa refs[from..to) em sequência e retorna quantas referências foram page fault.
+     *
+     * Cada algoritmo sobrescreve este método com o mesmo laço dentro da própria classe:
+     * assim a chamada de accesso() é monomórfica e inlinada, em vez de passar pela
+     * interface a cada referência.
+     */
+    default int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    /**
+     * Igual a accessoLote(refs, from, to), ligando em mapaFaults o bit (i - from) de cada
+     * referência que foi page fault. mapaFaults precisa de ao menos (to - from + 63) / 64
+     * posições; os bits são só ligados, nunca desligados.
+     */
+    default int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
     int getPageFaults();
 
+    /**
+     * Hits, despejos e trabalho por acesso (ver Metricas). null se as métricas estão
+     * desligadas ou se o algoritmo não é instrumentado.
+     */
+    default Metricas getMetricas() {
+        return null;
+    }
+
     int getCapacity();
 
     void reset();
-}
\ No newline at end of file
+}
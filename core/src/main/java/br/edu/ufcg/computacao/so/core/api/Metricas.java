@@ -0,0 +1,117 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+import java.util.Arrays;
+
+/**
+ * Contadores opcionais de um algoritmo, para entender de onde vem o custo: hits, despejos
+ * e as unidades de trabalho de cada acesso — quanto o ponteiro do Clock andou, quantas
+ * entradas o LFU varreu, quantos passos de busca binária o Ótimo deu.
+ *
+ * Desligado por padrão; liga com -Dsimulator.metricas=true. ATIVAS é static final, então
+ * com a opção desligada o JIT elimina os blocos if (Metricas.ATIVAS) { ... } e os
+ * algoritmos nem criam o objeto (nova() devolve null). Não há chamada de interface nem
+ * listener no caminho quente.
+ *
+ * Uso dentro de accesso():
+ *   - trabalho(n) ao longo do acesso, para cada passo que não é O(1)
+ *   - despejo() a cada página que deixa de ser residente
+ *   - hit() ou fault() no fim, que fecham o trabalho acumulado naquele acesso
+ *
+ * Não é thread-safe, como os algoritmos que a usam.
+ */
+public final class Metricas {
+
+    public static final boolean ATIVAS = Boolean.getBoolean("simulator.metricas");
+
+    // Balde 0: zero unidades; balde k: [2^(k-1), 2^k)
+    private static final int BALDES = 64;
+
+    private long hits;
+    private long faults;
+    private long despejos;
+    private long trabalhoHits;
+    private long trabalhoFaults;
+    private long maximoFault;
+    private long pendente; // trabalho do acesso em curso
+    private final long[] histogramaFaults = new long[BALDES];
+
+    /** Um objeto novo se as métricas estão ligadas, senão null. */
+    public static Metricas nova() {
+        return ATIVAS ? new Metricas() : null;
+    }
+
+    public void trabalho(int unidades) {
+        pendente += unidades;
+    }
+
+    public void despejo() {
+        despejos++;
+    }
+
+    public void hit() {
+        hits++;
+        trabalhoHits += pendente;
+        pendente = 0;
+    }
+
+    public void fault() {
+        long t = pendente;
+        pendente = 0;
+        faults++;
+        trabalhoFaults += t;
+        histogramaFaults[64 - Long.numberOfLeadingZeros(t)]++;
+        if (t > maximoFault) maximoFault = t;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getFaults() {
+        return faults;
+    }
+
+    public long getDespejos() {
+        return despejos;
+    }
+
+    public long getAcessos() {
+        return hits + faults;
+    }
+
+    public double getTrabalhoMedioHit() {
+        return hits == 0 ? 0.0 : (double) trabalhoHits / hits;
+    }
+
+    public double getTrabalhoMedioFault() {
+        return faults == 0 ? 0.0 : (double) trabalhoFaults / faults;
+    }
+
+    public long getTrabalhoMaximoFault() {
+        return maximoFault;
+    }
+
+    /** Limite superior do balde que contém o percentil pedido do trabalho por fault. */
+    public long percentilTrabalhoFault(double fracao) {
+        if (faults == 0) return 0;
+        long alvo = Math.max(1, (long) Math.ceil(fracao * faults));
+        long acumulado = 0;
+        for (int k = 0; k < BALDES; k++) {
+            acumulado += histogramaFaults[k];
+            if (acumulado >= alvo) return k == 0 ? 0 : Math.min((1L << k) - 1, maximoFault);
+        }
+        return maximoFault;
+    }
+
+    /** Despejos por acesso, em %: quanto do conjunto residente é trocado. */
+    public double getRotatividade() {
+        long acessos = getAcessos();
+        return acessos == 0 ? 0.0 : (100.0 * despejos) / acessos;
+    }
+
+    public void limpar() {
+        hits = faults = despejos = 0;
+        trabalhoHits = trabalhoFaults = maximoFault = pendente = 0;
+        Arrays.fill(histogramaFaults, 0);
+    }
+}
@@ -0,0 +1,15 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Avisado a cada página que deixa de ser residente, no momento em que o algoritmo a
+ * despeja — antes de o frame ser reaproveitado. Páginas que só saem de uma lista de
+ * fantasmas (B1/B2 do ARC, A1OUT do 2Q, testes do CLOCK-Pro) não geram aviso: já não
+ * estavam na memória.
+ *
+ * É o ponto em que o kernel decide se a página precisa ser gravada de volta (ver PaginasSujas).
+ */
+@FunctionalInterface
+public interface OuvinteDespejo {
+
+    void despejada(int page);
+}
@@ -0,0 +1,106 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+import java.util.Arrays;
+
+/**
+ * Bit M (modificada) de cada página e contagem de write-backs, mantidos fora dos
+ * algoritmos: qualquer política que avise os despejos (OuvinteDespejo) tem o custo de
+ * I/O medido sem mudar a escolha da vítima.
+ *
+ * A escrita liga o bit da página antes do acesso; o despejo de uma página com o bit
+ * ligado conta um write-back e o desliga (a página volta limpa do disco). Uma página
+ * escrita e despejada no mesmo acesso (admissão recusada) também é gravada.
+ *
+ * Entrega as referências em lotes entre duas escritas, então os algoritmos continuam
+ * recebendo accessoLote() e o caminho sem escritas é o mesmo de antes.
+ */
+public final class PaginasSujas implements OuvinteDespejo {
+
+    private long[] sujas; // bit por página
+    private long escritas;
+    private long writeBacks;
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, cresce sob demanda)
+     */
+    public PaginasSujas(int universo) {
+        this.sujas = new long[Math.max(1, (universo + 63) >>> 6)];
+    }
+
+    /**
+     * Processa refs[from..to) e retorna quantas foram page fault. O bit (i - from) de
+     * mapaEscritas indica que refs[i] é uma escrita; os algoritmos com tick recebem os
+     * ticks pelo temporizador (null se o algoritmo não tem tick). Os bits a partir de
+     * to - from precisam estar desligados.
+     */
+    public int accessoLote(AlgoritmoComDespejo algo, Temporizador temporizador,
+                           int[] refs, long[] mapaEscritas, int from, int to) {
+        AlgoritmoComEscrita comEscrita = algo instanceof AlgoritmoComEscrita e ? e : null;
+        int faults = 0;
+        int inicio = from;
+        int palavras = (to - from + 63) >>> 6;
+        for (int w = 0; w < palavras; w++) {
+            long palavra = mapaEscritas[w];
+            while (palavra != 0) {
+                int i = from + (w << 6) + Long.numberOfTrailingZeros(palavra);
+                palavra &= palavra - 1;
+
+                faults += lote(algo, temporizador, refs, inicio, i);
+                marcar(refs[i]);
+                if (comEscrita != null) comEscrita.escrita(refs[i]);
+                inicio = i; // a própria escrita abre o próximo lote
+            }
+        }
+        return faults + lote(algo, temporizador, refs, inicio, to);
+    }
+
+    /**
+     * Uma única referência, para quem precisa do resultado de cada acesso (simulação com
+     * tempo). Os write-backs que ela causou são a diferença de getWriteBacks().
+     */
+    public boolean accesso(AlgoritmoComDespejo algo, int page, boolean escrita) {
+        if (escrita) {
+            marcar(page);
+            if (algo instanceof AlgoritmoComEscrita comEscrita) comEscrita.escrita(page);
+        }
+        return algo.accesso(page);
+    }
+
+    private static int lote(AlgoritmoSubstituicaoPages algo, Temporizador temporizador, int[] refs, int from, int to) {
+        if (from == to) return 0;
+        if (temporizador != null) return temporizador.accessoLote((AlgoritmoComTick) algo, refs, from, to);
+        return algo.accessoLote(refs, from, to);
+    }
+
+    private void marcar(int page) {
+        int w = page >>> 6;
+        if (w >= sujas.length) sujas = Arrays.copyOf(sujas, Math.max(w + 1, sujas.length * 2));
+        sujas[w] |= 1L << page;
+        escritas++;
+    }
+
+    @Override
+    public void despejada(int page) {
+        int w = page >>> 6;
+        if (w < sujas.length && (sujas[w] & (1L << page)) != 0) {
+            sujas[w] &= ~(1L << page);
+            writeBacks++;
+        }
+    }
+
+    /** Referências de escrita entregues. */
+    public long getEscritas() {
+        return escritas;
+    }
+
+    /** Despejos de páginas sujas, cada um uma gravação em disco. */
+    public long getWriteBacks() {
+        return writeBacks;
+    }
+
+    public void reiniciar() {
+        Arrays.fill(sujas, 0);
+        escritas = 0;
+        writeBacks = 0;
+    }
+}
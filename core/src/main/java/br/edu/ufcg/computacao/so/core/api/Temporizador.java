@@ -0,0 +1,42 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.api;
+
+/**
+ * Simula a interrupção do relógio: entrega as referências em lotes ao algoritmo e chama
+ * tick() a cada periodo referências. Guarda a fase entre chamadas, então o trace pode
+ * chegar em blocos (modo streaming) sem mudar os instantes dos ticks.
+ */
+public final class Temporizador {
+
+    private final int periodo;
+    private int desdeTick; // referências desde o último tick
+
+    public Temporizador(int periodo) {
+        if (periodo <= 0) throw new IllegalArgumentException("periodo <= 0");
+        this.periodo = periodo;
+    }
+
+    /** Processa refs[from..to) e retorna quantas foram page fault. */
+    public int accessoLote(AlgoritmoComTick algo, int[] refs, int from, int to) {
+        int faults = 0;
+        int i = from;
+        while (i < to) {
+            int fim = (int) Math.min(to, (long) i + (periodo - desdeTick));
+            faults += algo.accessoLote(refs, i, fim);
+            desdeTick += fim - i;
+            i = fim;
+            if (desdeTick == periodo) {
+                algo.tick();
+                desdeTick = 0;
+            }
+        }
+        return faults;
+    }
+
+    public int getPeriodo() {
+        return periodo;
+    }
+
+    public void reiniciar() {
+        desdeTick = 0;
+    }
+}
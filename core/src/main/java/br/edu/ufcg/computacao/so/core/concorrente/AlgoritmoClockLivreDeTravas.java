@@ -0,0 +1,131 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clock sem travas — mesma regra de segunda chance do AlgoritmoClock, com os frames em arrays
+ * atômicos. Um hit é só uma leitura do índice e, se o bit ainda estava zerado, uma escrita;
+ * o fault avança o ponteiro com getAndIncrement e toma o frame com CAS.
+ *
+ * Estrutura:
+ *   - paginas : AtomicIntegerArray frame → página (VAZIO, ou RESERVADO enquanto troca de dono)
+ *   - ref     : AtomicIntegerArray com os bits de referência
+ *   - mao     : contador atômico; o frame é mao % capacity
+ *   - indice  : IndiceConcorrente page → frame, conferido contra paginas a cada hit
+ *
+ * Com uma única thread os page faults são os mesmos do AlgoritmoClock. Com várias, duas
+ * threads podem ter fault na mesma página ao mesmo tempo: só uma instala, a outra devolve
+ * o frame (as duas contam o fault, cada uma esperou pela página).
+ */
+public class AlgoritmoClockLivreDeTravas implements AlgoritmoSubstituicaoPages {
+
+    private static final int VAZIO     = -1;
+    private static final int RESERVADO = -2;
+
+    private final int capacity;
+    private final LongAdder pageFaults = new LongAdder();
+    private final AtomicLong mao       = new AtomicLong();
+
+    private final AtomicIntegerArray paginas;
+    private final AtomicIntegerArray ref;
+    private final IndiceConcorrente  indice;
+
+    public AlgoritmoClockLivreDeTravas(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoClockLivreDeTravas(int capacity, int universo) {
+        this.capacity = capacity;
+        this.paginas  = new AtomicIntegerArray(capacity);
+        this.ref      = new AtomicIntegerArray(capacity);
+        this.indice   = new IndiceConcorrente(capacity, universo);
+        for (int i = 0; i < capacity; i++) paginas.set(i, VAZIO);
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        int slot = indice.get(page);
+        if (slot != IndiceConcorrente.AUSENTE && paginas.get(slot) == page) {
+            // HIT: só escreve se o bit estava zerado, para não invalidar a linha de cache à toa
+            if (ref.get(slot) == 0) ref.set(slot, 1);
+            return false;
+        }
+
+        // FAULT
+        pageFaults.increment();
+
+        while (true) {
+            int i = (int) (mao.getAndIncrement() % capacity);
+            int atual = paginas.get(i);
+            if (atual == RESERVADO) continue;
+            if (ref.get(i) == 1) {
+                ref.set(i, 0); // segunda chance
+                continue;
+            }
+            if (!paginas.compareAndSet(i, atual, RESERVADO)) continue; // outra thread tomou o frame
+
+            // O frame é desta thread: desfaz o mapeamento da vítima e instala a página.
+            // O índice é publicado com o frame ainda RESERVADO, assim nenhum ponteiro pode
+            // despejá-lo antes de o índice apontar para ele (o que deixaria o índice velho)
+            if (atual != VAZIO) indice.compareAndSet(atual, i, IndiceConcorrente.AUSENTE);
+            if (indice.compareAndSet(page, IndiceConcorrente.AUSENTE, i)) {
+                ref.set(i, 1);
+                paginas.set(i, page);
+            } else {
+                // Outra thread instalou a mesma página antes: devolve o frame
+                paginas.set(i, VAZIO);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return (int) pageFaults.sum();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Não pode rodar junto com accesso(). */
+    @Override
+    public void reset() {
+        for (int i = 0; i < capacity; i++) {
+            paginas.set(i, VAZIO);
+            ref.set(i, 0);
+        }
+        indice.limpar();
+        pageFaults.reset();
+        mao.set(0);
+    }
+}
@@ -0,0 +1,156 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.ListasIndexadas;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LRU com recência em buffer (como o read buffer do Caffeine) — um hit não mexe na lista:
+ * a página vai para um buffer circular da própria thread, e as promoções são aplicadas em
+ * lote por quem conseguir a trava. Só o fault precisa esperar pela trava.
+ *
+ * Estrutura:
+ *   - ordem    : lista intrusiva sobre arrays, início = LRU (vítima); só muda com a trava
+ *   - pageToNo : IndiceConcorrente page → nó, lido sem trava
+ *   - buffers  : um BufferLeituras (TAMANHO_BUFFER páginas) por thread
+ *
+ * Buffer cheio: tryLock e drena; se a trava está ocupada, as promoções são descartadas
+ * (perder recência de uma página quente custa menos que esperar). Todo fault drena o buffer
+ * da thread antes de escolher a vítima, então com uma única thread os page faults são
+ * exatamente os do LRU.
+ */
+public class AlgoritmoLRUComBuffer implements AlgoritmoSubstituicaoPages {
+
+    private static final int LISTA          = 0;
+    private static final int TAMANHO_BUFFER = 64;
+
+    private final int capacity;
+    private final LongAdder     pageFaults = new LongAdder();
+    private final ReentrantLock trava      = new ReentrantLock();
+
+    private final int[]             paginas; // nó → página (com a trava)
+    private final ListasIndexadas   ordem;
+    private final IndiceConcorrente pageToNo;
+    private final ThreadLocal<BufferLeituras> buffers = ThreadLocal.withInitial(BufferLeituras::new);
+
+    private static final class BufferLeituras {
+        final int[] paginas = new int[TAMANHO_BUFFER];
+        int tamanho;
+    }
+
+    public AlgoritmoLRUComBuffer(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param universo páginas válidas são 0..universo-1 (0 = desconhecido, usa mapa)
+     */
+    public AlgoritmoLRUComBuffer(int capacity, int universo) {
+        this.capacity = capacity;
+        this.paginas  = new int[capacity];
+        this.ordem    = new ListasIndexadas(capacity, 1);
+        this.pageToNo = new IndiceConcorrente(capacity, universo);
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        if (pageToNo.get(page) != IndiceConcorrente.AUSENTE) {
+            // HIT: só registra; a promoção para o fim da lista fica para o próximo dreno
+            BufferLeituras buffer = buffers.get();
+            buffer.paginas[buffer.tamanho++] = page;
+            if (buffer.tamanho == TAMANHO_BUFFER) {
+                if (trava.tryLock()) {
+                    try {
+                        drenar(buffer);
+                    } finally {
+                        trava.unlock();
+                    }
+                } else {
+                    buffer.tamanho = 0;
+                }
+            }
+            return false;
+        }
+
+        // FAULT
+        pageFaults.increment();
+
+        trava.lock();
+        try {
+            drenar(buffers.get());
+            // Outra thread pode ter carregado a página enquanto esta esperava pela trava
+            if (pageToNo.get(page) != IndiceConcorrente.AUSENTE) return true;
+
+            int no = ordem.alocar();
+            if (no == ListasIndexadas.NENHUM) {
+                no = ordem.removerPrimeiro(LISTA);
+                pageToNo.compareAndSet(paginas[no], no, IndiceConcorrente.AUSENTE);
+            }
+            paginas[no] = page;
+            ordem.inserirFim(LISTA, no);
+            pageToNo.put(page, no);
+        } finally {
+            trava.unlock();
+        }
+        return true;
+    }
+
+    // Aplica as promoções na ordem em que os hits aconteceram; quem já saiu é ignorado
+    private void drenar(BufferLeituras buffer) {
+        for (int i = 0; i < buffer.tamanho; i++) {
+            int no = pageToNo.get(buffer.paginas[i]);
+            if (no != IndiceConcorrente.AUSENTE) ordem.moverParaFim(LISTA, no);
+        }
+        buffer.tamanho = 0;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        return (int) pageFaults.sum();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Não pode rodar junto com accesso(). Só o buffer da thread que chama é esvaziado;
+     * entradas antigas de outras threads são ignoradas no dreno se a página não estiver residente.
+     */
+    @Override
+    public void reset() {
+        trava.lock();
+        try {
+            ordem.limpar();
+            pageToNo.limpar();
+            buffers.get().tamanho = 0;
+            pageFaults.reset();
+        } finally {
+            trava.unlock();
+        }
+    }
+}
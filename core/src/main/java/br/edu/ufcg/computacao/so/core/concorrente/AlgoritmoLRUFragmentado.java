@@ -0,0 +1,118 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoLRUPrimitivo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+
+/**
+ * LRU fragmentado (lock striping) — os frames são divididos entre fragmentos independentes,
+ * cada um com o seu LRU sequencial e a sua trava. A página escolhe o fragmento por hash,
+ * então threads acessando páginas diferentes quase nunca disputam a mesma trava.
+ *
+ * Estrutura:
+ *   - fragmentos : AlgoritmoLRUPrimitivo por fragmento (potência de 2), sincronizado nele mesmo
+ *
+ * O preço é a precisão: cada fragmento é um LRU com capacity / fragmentos frames, não um
+ * LRU global. Um fragmento quente despeja páginas enquanto outro ainda tem frames frios.
+ */
+public class AlgoritmoLRUFragmentado implements AlgoritmoSubstituicaoPages {
+
+    // Abaixo disso cada fragmento vira quase um cache de mapeamento direto
+    private static final int MINIMO_FRAMES_FRAGMENTO = 8;
+
+    private final int capacity;
+    private final int deslocamento; // 32 - log2(fragmentos), para usar os bits altos do hash
+    private final AlgoritmoLRUPrimitivo[] fragmentos;
+
+    /**
+     * Um fragmento por 4 threads de hardware (arredondado para baixo para potência de 2),
+     * com pelo menos MINIMO_FRAMES_FRAGMENTO frames por fragmento.
+     */
+    public AlgoritmoLRUFragmentado(int capacity) {
+        this(capacity, fragmentosPadrao(capacity));
+    }
+
+    /**
+     * @param fragmentos número de fragmentos; potência de 2 entre 1 e capacity
+     */
+    public AlgoritmoLRUFragmentado(int capacity, int fragmentos) {
+        if (fragmentos < 1 || Integer.bitCount(fragmentos) != 1) {
+            throw new IllegalArgumentException("fragmentos deve ser potencia de 2: " + fragmentos);
+        }
+        if (fragmentos > capacity) throw new IllegalArgumentException("fragmentos > capacity");
+        this.capacity     = capacity;
+        this.deslocamento = 32 - Integer.numberOfTrailingZeros(fragmentos);
+        this.fragmentos   = new AlgoritmoLRUPrimitivo[fragmentos];
+        for (int i = 0; i < fragmentos; i++) {
+            // O resto da divisão vai para os primeiros fragmentos
+            this.fragmentos[i] = new AlgoritmoLRUPrimitivo(capacity / fragmentos + (i < capacity % fragmentos ? 1 : 0));
+        }
+    }
+
+    static int fragmentosPadrao(int capacity) {
+        int alvo = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+        return Math.min(alvo, Integer.highestOneBit(Math.max(1, capacity / MINIMO_FRAMES_FRAGMENTO)));
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        AlgoritmoLRUPrimitivo fragmento = fragmentos[fragmento(page)];
+        synchronized (fragmento) {
+            return fragmento.accesso(page);
+        }
+    }
+
+    // Fibonacci hashing: páginas consecutivas caem em fragmentos diferentes
+    private int fragmento(int page) {
+        return deslocamento == 32 ? 0 : (page * 0x9E3779B9) >>> deslocamento;
+    }
+
+    public int getFragmentos() {
+        return fragmentos.length;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    @Override
+    public int getPageFaults() {
+        int total = 0;
+        for (AlgoritmoLRUPrimitivo fragmento : fragmentos) {
+            synchronized (fragmento) {
+                total += fragmento.getPageFaults();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        for (AlgoritmoLRUPrimitivo fragmento : fragmentos) {
+            synchronized (fragmento) {
+                fragmento.reset();
+            }
+        }
+    }
+}
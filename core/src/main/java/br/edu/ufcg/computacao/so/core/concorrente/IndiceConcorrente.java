@@ -0,0 +1,75 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Índice página → slot que pode ser lido por várias threads sem trava. Equivale ao
+ * IndiceResidencia das versões sequenciais.
+ *
+ * Estrutura:
+ *   - denso : AtomicIntegerArray indexado pela página, quando o universo é conhecido
+ *   - mapa  : ConcurrentHashMap nos demais casos (com boxing; só para universos desconhecidos)
+ */
+final class IndiceConcorrente {
+
+    static final int AUSENTE = -1;
+
+    /** Maior universo atendido pela tabela direta, como em IndiceResidencia. */
+    private static final int LIMITE_DENSO = 1 << 22;
+
+    private final AtomicIntegerArray                  denso; // null → usa o mapa
+    private final ConcurrentHashMap<Integer, Integer> mapa;
+
+    IndiceConcorrente(int capacidade, int universo) {
+        if (universo < 0) throw new IllegalArgumentException("universo < 0");
+        if (universo > 0 && universo <= LIMITE_DENSO) {
+            this.denso = new AtomicIntegerArray(universo);
+            this.mapa  = null;
+            limpar();
+        } else {
+            this.denso = null;
+            this.mapa  = new ConcurrentHashMap<>(2 * capacidade);
+        }
+    }
+
+    int get(int pagina) {
+        AtomicIntegerArray d = denso;
+        if (d != null) return (pagina >= 0 && pagina < d.length()) ? d.get(pagina) : AUSENTE;
+        Integer slot = mapa.get(pagina);
+        return slot == null ? AUSENTE : slot;
+    }
+
+    /** Escrita incondicional; quem chama garante a exclusão (ex.: dentro de uma trava). */
+    void put(int pagina, int slot) {
+        if (denso != null) {
+            if (pagina < 0 || pagina >= denso.length()) {
+                throw new IllegalArgumentException("Pagina " + pagina + " fora do universo 0.." + (denso.length() - 1));
+            }
+            denso.set(pagina, slot);
+        } else {
+            mapa.put(pagina, slot);
+        }
+    }
+
+    /** Troca esperado por novo (AUSENTE em qualquer dos dois significa "sem entrada"). */
+    boolean compareAndSet(int pagina, int esperado, int novo) {
+        if (denso != null) {
+            if (pagina < 0 || pagina >= denso.length()) {
+                throw new IllegalArgumentException("Pagina " + pagina + " fora do universo 0.." + (denso.length() - 1));
+            }
+            return denso.compareAndSet(pagina, esperado, novo);
+        }
+        if (esperado == AUSENTE) return novo == AUSENTE || mapa.putIfAbsent(pagina, novo) == null;
+        if (novo == AUSENTE) return mapa.remove(pagina, esperado);
+        return mapa.replace(pagina, esperado, novo);
+    }
+
+    void limpar() {
+        if (denso != null) {
+            for (int i = 0; i < denso.length(); i++) denso.set(i, AUSENTE);
+        } else {
+            mapa.clear();
+        }
+    }
+}
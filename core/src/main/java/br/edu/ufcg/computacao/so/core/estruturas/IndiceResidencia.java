@@ -0,0 +1,90 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas;
+
+import java.util.Arrays;
+
+/**
+ * Índice página → slot das páginas residentes, sem boxing e sem alocação por acesso.
+ *
+ * Estrutura:
+ *   - denso  : int[] indexado direto pela página, quando o universo é conhecido e cabe em LIMITE_DENSO
+ *   - mapa   : MapaInteiros (endereçamento aberto) nos demais casos
+ *
+ * Os workloads gerados usam páginas 0..universo-1 com universos pequenos (dezenas a milhares),
+ * então na prática o caminho denso é um único load por consulta, independente do número de frames.
+ */
+public final class IndiceResidencia {
+
+    public static final int AUSENTE = -1; // retorno de get() quando a página não está residente
+
+    /** Maior universo atendido pela tabela direta (16 MiB de int[]). */
+    public static final int LIMITE_DENSO = 1 << 22;
+
+    private final int[]        denso; // null → usa o mapa
+    private final MapaInteiros mapa;
+
+    /**
+     * @param capacidade número de frames (tamanho esperado do mapa)
+     * @param universo   páginas válidas são 0..universo-1; 0 = desconhecido
+     */
+    public IndiceResidencia(int capacidade, int universo) {
+        if (universo < 0) throw new IllegalArgumentException("universo < 0");
+        if (universo > 0 && universo <= LIMITE_DENSO) {
+            this.denso = new int[universo];
+            this.mapa  = null;
+            Arrays.fill(denso, AUSENTE);
+        } else {
+            this.denso = null;
+            this.mapa  = new MapaInteiros(capacidade);
+        }
+    }
+
+    /** Universo (maior página + 1) de uma sequência de referências. */
+    public static int universo(int[] referencias) {
+        int maior = -1;
+        for (int pagina : referencias) {
+            if (pagina > maior) maior = pagina;
+        }
+        return maior + 1;
+    }
+
+    public int get(int pagina) {
+        int[] d = denso;
+        if (d != null) return (pagina >= 0 && pagina < d.length) ? d[pagina] : AUSENTE;
+        return mapa.get(pagina);
+    }
+
+    public boolean contem(int pagina) {
+        return get(pagina) != AUSENTE;
+    }
+
+    public void put(int pagina, int slot) {
+        if (denso != null) {
+            if (pagina < 0 || pagina >= denso.length) {
+                throw new IllegalArgumentException("Pagina " + pagina + " fora do universo 0.." + (denso.length - 1));
+            }
+            denso[pagina] = slot;
+        } else {
+            mapa.put(pagina, slot);
+        }
+    }
+
+    /** Remove a página e retorna o slot que ela ocupava (ou AUSENTE). */
+    public int remove(int pagina) {
+        if (denso != null) {
+            if (pagina < 0 || pagina >= denso.length) return AUSENTE;
+            int slot = denso[pagina];
+            denso[pagina] = AUSENTE;
+            return slot;
+        }
+        return mapa.remove(pagina);
+    }
+
+    public boolean isDenso() {
+        return denso != null;
+    }
+
+    public void clear() {
+        if (denso != null) Arrays.fill(denso, AUSENTE);
+        else mapa.clear();
+    }
+}
@@ -0,0 +1,149 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas;
+
+import java.util.Arrays;
+
+/**
+ * Listas duplamente encadeadas intrusivas sobre um pool fixo de nós (índices int).
+ *
+ * Estrutura: arrays paralelos prox/ant + cabeça/cauda/tamanho por lista.
+ *   - Um nó pertence a no máximo uma lista por vez (listaDe(no) diz qual).
+ *   - Várias listas compartilham o mesmo pool (ex.: T1/T2/B1/B2 do ARC).
+ *   - Nós livres ficam numa pilha; nada é alocado depois do construtor.
+ *
+ * Convenção: início da lista = menos recente (vítima), fim = mais recente.
+ */
+public final class ListasIndexadas {
+
+    public static final int NENHUM = -1;
+
+    private final int[] prox;
+    private final int[] ant;
+    private final int[] lista; // lista de cada nó (NENHUM se solto)
+
+    private final int[] cabeca;
+    private final int[] cauda;
+    private final int[] tamanho;
+
+    private final int[] livres; // pilha de nós livres
+    private int topoLivres;
+
+    public ListasIndexadas(int nos, int listas) {
+        this.prox    = new int[nos];
+        this.ant     = new int[nos];
+        this.lista   = new int[nos];
+        this.cabeca  = new int[listas];
+        this.cauda   = new int[listas];
+        this.tamanho = new int[listas];
+        this.livres  = new int[nos];
+        limpar();
+    }
+
+    /** Retorna um nó livre (solto, fora de qualquer lista) ou NENHUM se o pool esgotou. */
+    public int alocar() {
+        return topoLivres == 0 ? NENHUM : livres[--topoLivres];
+    }
+
+    /** Devolve o nó ao pool, removendo-o da lista em que estiver. */
+    public void liberar(int no) {
+        if (lista[no] != NENHUM) remover(no);
+        livres[topoLivres++] = no;
+    }
+
+    public void inserirFim(int l, int no) {
+        int t = cauda[l];
+        ant[no]  = t;
+        prox[no] = NENHUM;
+        if (t == NENHUM) cabeca[l] = no;
+        else prox[t] = no;
+        cauda[l] = no;
+        lista[no] = l;
+        tamanho[l]++;
+    }
+
+    public void inserirInicio(int l, int no) {
+        int h = cabeca[l];
+        prox[no] = h;
+        ant[no]  = NENHUM;
+        if (h == NENHUM) cauda[l] = no;
+        else ant[h] = no;
+        cabeca[l] = no;
+        lista[no] = l;
+        tamanho[l]++;
+    }
+
+    /** Insere o nó logo depois de ref (que já está na lista l). */
+    public void inserirApos(int l, int ref, int no) {
+        int n = prox[ref];
+        ant[no]  = ref;
+        prox[no] = n;
+        prox[ref] = no;
+        if (n == NENHUM) cauda[l] = no;
+        else ant[n] = no;
+        lista[no] = l;
+        tamanho[l]++;
+    }
+
+    /** Insere o nó logo antes de ref (que já está na lista l). */
+    public void inserirAntes(int l, int ref, int no) {
+        int p = ant[ref];
+        prox[no] = ref;
+        ant[no]  = p;
+        ant[ref] = no;
+        if (p == NENHUM) cabeca[l] = no;
+        else prox[p] = no;
+        lista[no] = l;
+        tamanho[l]++;
+    }
+
+    public void remover(int no) {
+        int l = lista[no];
+        int p = ant[no];
+        int n = prox[no];
+        if (p == NENHUM) cabeca[l] = n;
+        else prox[p] = n;
+        if (n == NENHUM) cauda[l] = p;
+        else ant[n] = p;
+        lista[no] = NENHUM;
+        tamanho[l]--;
+    }
+
+    /** Move o nó para o fim da lista l (pode ser a mesma lista em que já está). */
+    public void moverParaFim(int l, int no) {
+        if (cauda[l] == no) return;
+        if (lista[no] != NENHUM) remover(no);
+        inserirFim(l, no);
+    }
+
+    /** Remove e retorna o primeiro nó da lista (NENHUM se vazia). O nó continua alocado. */
+    public int removerPrimeiro(int l) {
+        int no = cabeca[l];
+        if (no != NENHUM) remover(no);
+        return no;
+    }
+
+    public int primeiro(int l) { return cabeca[l]; }
+
+    public int ultimo(int l) { return cauda[l]; }
+
+    public int proximo(int no) { return prox[no]; }
+
+    public int anterior(int no) { return ant[no]; }
+
+    public int listaDe(int no) { return lista[no]; }
+
+    public int tamanho(int l) { return tamanho[l]; }
+
+    public int capacidade() { return prox.length; }
+
+    /** Solta todos os nós e devolve o pool inteiro para a pilha de livres. */
+    public void limpar() {
+        Arrays.fill(lista, NENHUM);
+        Arrays.fill(cabeca, NENHUM);
+        Arrays.fill(cauda, NENHUM);
+        Arrays.fill(tamanho, 0);
+        // Empilha em ordem decrescente para que alocar() devolva 0, 1, 2, ...
+        int n = livres.length;
+        for (int i = 0; i < n; i++) livres[i] = n - 1 - i;
+        topoLivres = n;
+    }
+}
@@ -0,0 +1,127 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas;
+
+import java.util.Arrays;
+
+/**
+ * Mapa int → int com endereçamento aberto (sondagem linear), sem boxing.
+ *
+ * Estrutura: dois arrays paralelos (chaves / valores) com tamanho potência de 2.
+ *   - Remoção por deslocamento para trás (backward shift), sem lápides.
+ *   - Só aloca de novo se o número de chaves passar da capacidade esperada.
+ *
+ * A chave Integer.MIN_VALUE é reservada para marcar posição vazia.
+ */
+public final class MapaInteiros {
+
+    public static final int AUSENTE = -1; // retorno de get() quando a chave não existe
+
+    private static final int VAZIO = Integer.MIN_VALUE;
+
+    private int[] chaves;
+    private int[] valores;
+    private int mascara;
+    private int tamanho;
+    private int limite; // tamanho máximo antes de crescer (fator de carga 0.5)
+
+    public MapaInteiros(int capacidadeEsperada) {
+        int slots = Integer.highestOneBit(Math.max(4, capacidadeEsperada * 2 - 1)) << 1;
+        alocarTabela(slots);
+    }
+
+    public int get(int chave) {
+        int[] ch = chaves;
+        int i = indice(chave);
+        while (true) {
+            int k = ch[i];
+            if (k == chave) return valores[i];
+            if (k == VAZIO) return AUSENTE;
+            i = (i + 1) & mascara;
+        }
+    }
+
+    public boolean contem(int chave) {
+        return get(chave) != AUSENTE;
+    }
+
+    public void put(int chave, int valor) {
+        int i = indice(chave);
+        while (true) {
+            int k = chaves[i];
+            if (k == chave) {
+                valores[i] = valor;
+                return;
+            }
+            if (k == VAZIO) {
+                chaves[i]  = chave;
+                valores[i] = valor;
+                if (++tamanho > limite) crescer();
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+    }
+
+    /** Remove a chave e retorna o valor associado (ou AUSENTE). */
+    public int remove(int chave) {
+        int i = indice(chave);
+        while (true) {
+            int k = chaves[i];
+            if (k == VAZIO) return AUSENTE;
+            if (k == chave) break;
+            i = (i + 1) & mascara;
+        }
+
+        int removido = valores[i];
+        tamanho--;
+
+        // Backward shift: puxa para trás as chaves que estavam fora da posição ideal
+        int vaga = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mascara;
+            int k = chaves[j];
+            if (k == VAZIO) break;
+            int ideal = indice(k);
+            // move se a posição ideal de k não está no intervalo circular (vaga, j]
+            if (((j - ideal) & mascara) >= ((j - vaga) & mascara)) {
+                chaves[vaga]  = k;
+                valores[vaga] = valores[j];
+                vaga = j;
+            }
+        }
+        chaves[vaga] = VAZIO;
+        return removido;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public void clear() {
+        Arrays.fill(chaves, VAZIO);
+        tamanho = 0;
+    }
+
+    private int indice(int chave) {
+        int h = chave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private void crescer() {
+        int[] chavesAntigas  = chaves;
+        int[] valoresAntigos = valores;
+        alocarTabela(chavesAntigas.length << 1);
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (chavesAntigas[i] != VAZIO) put(chavesAntigas[i], valoresAntigos[i]);
+        }
+    }
+
+    private void alocarTabela(int slots) {
+        chaves  = new int[slots];
+        valores = new int[slots];
+        mascara = slots - 1;
+        limite  = slots >>> 1;
+        tamanho = 0;
+        Arrays.fill(chaves, VAZIO);
+    }
+}
@@ -0,0 +1,105 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas;
+
+import java.util.Arrays;
+
+/**
+ * Estimador aproximado de frequência (TinyLFU) com memória fixa, proporcional ao número
+ * de frames e não ao universo de páginas.
+ *
+ * Estrutura:
+ *   - contadores : count-min sketch de 4 linhas com contadores de 4 bits (16 por long)
+ *   - porta      : filtro de Bloom "doorkeeper"; a primeira ocorrência de uma página só
+ *                  marca a porta, então páginas vistas uma vez não sujam os contadores
+ *
+ * A cada periodoAmostra incrementos todos os contadores são divididos por 2 e a porta é
+ * limpa, para que a frequência reflita o passado recente (envelhecimento).
+ */
+public final class SketchFrequencia {
+
+    private static final int LINHAS = 4;
+    private static final long[] SEMENTES = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+    };
+    private static final long METADE = 0x7777777777777777L; // zera o bit alto de cada nibble depois do >>> 1
+
+    private final long[] contadores;
+    private final long[] porta;
+    private final int mascara;      // largura de cada linha - 1
+    private final int longsPorLinha;
+    private final int mascaraPorta;
+    private final int periodoAmostra;
+    private int adicoes;
+
+    /**
+     * @param capacidadeEsperada número de frames (itens distintos que importam ao mesmo tempo)
+     */
+    public SketchFrequencia(int capacidadeEsperada) {
+        int largura = Math.max(16, Integer.highestOneBit(Math.max(1, capacidadeEsperada - 1)) << 1);
+        this.mascara        = largura - 1;
+        this.longsPorLinha  = largura >>> 4;
+        this.contadores     = new long[LINHAS * longsPorLinha];
+        this.porta          = new long[largura >>> 3]; // 8 bits por item
+        this.mascaraPorta   = (largura << 3) - 1;
+        this.periodoAmostra = 10 * Math.max(1, capacidadeEsperada);
+    }
+
+    /** Frequência estimada (0 a 16), nunca menor que a real desde o último envelhecimento. */
+    public int frequencia(int pagina) {
+        int minimo = 15;
+        for (int linha = 0; linha < LINHAS; linha++) {
+            int pos = indice(pagina, linha);
+            int valor = (int) (contadores[linha * longsPorLinha + (pos >>> 4)] >>> ((pos & 15) << 2)) & 0xF;
+            if (valor < minimo) minimo = valor;
+        }
+        return minimo + (naPorta(pagina) ? 1 : 0);
+    }
+
+    public void incrementar(int pagina) {
+        if (!naPorta(pagina)) {
+            marcarPorta(pagina);
+        } else {
+            for (int linha = 0; linha < LINHAS; linha++) {
+                int pos = indice(pagina, linha);
+                int i = linha * longsPorLinha + (pos >>> 4);
+                int deslocamento = (pos & 15) << 2;
+                if (((contadores[i] >>> deslocamento) & 0xF) != 0xF) contadores[i] += 1L << deslocamento;
+            }
+        }
+        if (++adicoes == periodoAmostra) envelhecer();
+    }
+
+    public void limpar() {
+        Arrays.fill(contadores, 0);
+        Arrays.fill(porta, 0);
+        adicoes = 0;
+    }
+
+    private void envelhecer() {
+        for (int i = 0; i < contadores.length; i++) contadores[i] = (contadores[i] >>> 1) & METADE;
+        Arrays.fill(porta, 0);
+        adicoes = periodoAmostra >>> 1;
+    }
+
+    // A porta usa os hashes das linhas 0 e 1 num espaço de bits maior
+    private boolean naPorta(int pagina) {
+        int a = hash(pagina, 0) & mascaraPorta;
+        int b = hash(pagina, 1) & mascaraPorta;
+        return (porta[a >>> 6] & (1L << a)) != 0 && (porta[b >>> 6] & (1L << b)) != 0;
+    }
+
+    private void marcarPorta(int pagina) {
+        int a = hash(pagina, 0) & mascaraPorta;
+        int b = hash(pagina, 1) & mascaraPorta;
+        porta[a >>> 6] |= 1L << a;
+        porta[b >>> 6] |= 1L << b;
+    }
+
+    private int indice(int pagina, int linha) {
+        return hash(pagina, linha) & mascara;
+    }
+
+    private static int hash(int pagina, int linha) {
+        long h = (pagina + SEMENTES[linha]) * SEMENTES[linha];
+        return (int) (h ^ (h >>> 32));
+    }
+}
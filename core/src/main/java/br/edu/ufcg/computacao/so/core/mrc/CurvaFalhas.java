@@ -0,0 +1,164 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.mrc;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.AlgoritmoOtimoHeap;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.MapaInteiros;
+
+import java.util.Arrays;
+
+/**
+ * Curva de page faults × frames em uma única passada (algoritmos de pilha, Mattson et al.).
+ *
+ * LRU e Ótimo têm a propriedade de inclusão: o conteúdo com c frames está contido no
+ * conteúdo com c+1 frames. Então cada referência tem uma "distância de pilha" d e
+ * ela é fault para todo c < d. Basta um histograma de distâncias para obter a curva inteira.
+ *
+ * Retorno: faults[c] = page faults com c frames, para c = 0..N, onde
+ * N = min(maxFrames, páginas distintas). Depois de N a curva é constante.
+ */
+public final class CurvaFalhas {
+
+    private CurvaFalhas() {}
+
+    /**
+     * LRU: a distância de pilha é o número de páginas distintas acessadas desde o último
+     * acesso à página. Uma Fenwick tree sobre as posições marca o último acesso de cada
+     * página, então a distância sai de uma soma de intervalo em O(log n).
+     */
+    public static int[] lru(int[] referencias, int maxFrames) {
+        int n = referencias.length;
+        int[] fenwick = new int[n + 1];
+        MapaInteiros ultimoAcesso = new MapaInteiros(1024);
+        long[] histograma = new long[maxFrames + 2]; // índice maxFrames+1 = distância maior que maxFrames
+        int distintas = 0;
+
+        for (int t = 0; t < n; t++) {
+            int page = referencias[t];
+            int anterior = ultimoAcesso.get(page);
+            if (anterior == MapaInteiros.AUSENTE) {
+                distintas++;
+                histograma[maxFrames + 1]++;
+            } else {
+                // Páginas cujo último acesso está em [anterior, t-1], incluindo a própria
+                int d = somaPrefixo(fenwick, t) - somaPrefixo(fenwick, anterior);
+                histograma[Math.min(d, maxFrames + 1)]++;
+                somar(fenwick, anterior, -1);
+            }
+            somar(fenwick, t, 1);
+            ultimoAcesso.put(page, t);
+        }
+
+        return acumular(histograma, n, Math.min(maxFrames, distintas));
+    }
+
+    public static int[] otimo(int[] referencias, int maxFrames) {
+        return otimo(referencias, AlgoritmoOtimoHeap.calcularProximosUsos(referencias), maxFrames);
+    }
+
+    /**
+     * Ótimo: pilha de prioridade onde, a cada nível, fica quem será usado mais cedo.
+     * A página referenciada vai para o topo e o elemento deslocado desce, disputando cada
+     * nível com o ocupante; o de próximo uso mais distante segue descendo.
+     *
+     * Só os maxFrames níveis de cima importam para a curva, então a pilha é truncada ali.
+     * Custo O(n · min(maxFrames, páginas distintas)) no pior caso.
+     *
+     * @param proximosUsos índice de AlgoritmoOtimoHeap.calcularProximosUsos (só é lido)
+     */
+    public static int[] otimo(int[] referencias, int[] proximosUsos, int maxFrames) {
+        int n = referencias.length;
+
+        // Compacta as páginas em ids densos 0..U-1
+        MapaInteiros ids = new MapaInteiros(1024);
+        int[] idDaReferencia = new int[n];
+        int distintas = 0;
+        for (int t = 0; t < n; t++) {
+            int id = ids.get(referencias[t]);
+            if (id == MapaInteiros.AUSENTE) {
+                id = distintas++;
+                ids.put(referencias[t], id);
+            }
+            idDaReferencia[t] = id;
+        }
+
+        int limite = Math.min(maxFrames, distintas);
+        int[] pilha = new int[Math.max(limite, 1)];
+        int[] posicao = new int[distintas]; // id → nível na pilha (-1 = fora dos limite níveis)
+        int[] proximo = new int[distintas]; // id → próximo uso a partir da referência atual
+        Arrays.fill(posicao, -1);
+        int tamanhoPilha = 0;
+
+        long[] histograma = new long[maxFrames + 2];
+
+        for (int t = 0; t < n; t++) {
+            int x = idDaReferencia[t];
+            int p = posicao[x];
+            proximo[x] = proximosUsos[t];
+
+            if (p == 0) {
+                histograma[1]++;
+                continue;
+            }
+
+            int fim;
+            if (p > 0) {
+                histograma[p + 1]++;
+                fim = p;
+            } else {
+                histograma[maxFrames + 1]++;
+                fim = tamanhoPilha < limite ? tamanhoPilha++ : limite;
+            }
+
+            if (fim == 0) { // pilha vazia
+                pilha[0] = x;
+                posicao[x] = 0;
+                continue;
+            }
+
+            int carregado = pilha[0];
+            pilha[0] = x;
+            posicao[x] = 0;
+
+            for (int i = 1; i < fim; i++) {
+                int y = pilha[i];
+                if (proximo[carregado] < proximo[y]) {
+                    pilha[i] = carregado;
+                    posicao[carregado] = i;
+                    carregado = y;
+                }
+            }
+
+            if (fim < limite) {
+                pilha[fim] = carregado;
+                posicao[carregado] = fim;
+            } else {
+                posicao[carregado] = -1; // saiu dos níveis observados
+            }
+        }
+
+        return acumular(histograma, n, limite);
+    }
+
+    // faults[c] = total - (referências com distância <= c)
+    private static int[] acumular(long[] histograma, int total, int limite) {
+        int[] faults = new int[limite + 1];
+        long acertos = 0;
+        faults[0] = total;
+        for (int c = 1; c <= limite; c++) {
+            acertos += histograma[c];
+            faults[c] = (int) (total - acertos);
+        }
+        return faults;
+    }
+
+    // Fenwick tree 1-indexada sobre as posições 0..n-1
+    private static void somar(int[] fenwick, int posicao, int delta) {
+        for (int i = posicao + 1; i < fenwick.length; i += i & -i) fenwick[i] += delta;
+    }
+
+    // Soma das posições 0..posicao-1
+    private static int somaPrefixo(int[] fenwick, int posicao) {
+        int soma = 0;
+        for (int i = posicao; i > 0; i -= i & -i) soma += fenwick[i];
+        return soma;
+    }
+}
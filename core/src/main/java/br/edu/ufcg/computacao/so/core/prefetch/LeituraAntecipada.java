@@ -0,0 +1,314 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.prefetch;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComEscrita;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.OuvinteDespejo;
+
+import java.util.Arrays;
+
+/**
+ * Leitura antecipada (read-ahead) por cima de qualquer política de substituição: detecta
+ * fluxos sequenciais e com passo constante e traz as próximas páginas antes de serem
+ * pedidas. A política continua decidindo quem sai; esta camada só decide o que entra.
+ *
+ * Detecção (como a tabela de passos de um prefetcher de hardware, sem o PC):
+ *   - Só olha faults e acertos de prefetch, não os hits comuns (como o readahead do Linux).
+ *   - Um fault perto (|d| <= DISTANCIA_MAXIMA) da última página de um fluxo ainda não
+ *     confirmado propõe o passo d; caso contrário ocupa o fluxo usado há mais tempo.
+ *   - Quando o mesmo passo aparece de novo o fluxo é confirmado e passa a antecipar.
+ *
+ * Janela adaptativa: cada fluxo confirmado mantém janela páginas à frente, começando em
+ * JANELA_MINIMA. Cada acerto de prefetch dobra a janela do fluxo (até um quarto dos
+ * frames, no máximo JANELA_MAXIMA); cada página antecipada despejada sem uso divide
+ * todas as janelas por 2.
+ *
+ * A interface não tem "inserir sem referenciar": a página antecipada entra com um
+ * accesso() na política, como se tivesse sido referenciada uma vez. A residência é
+ * acompanhada pelos avisos de despejo, então a política precisa ser um
+ * AlgoritmoComDespejo. getPageFaults() conta só os faults de demanda; as leituras
+ * antecipadas saem em getAntecipadas(). Ticks e escritas são repassados à política (e à
+ * sombra) quando ela os usa; as páginas antecipadas entram limpas.
+ *
+ * Contadores:
+ *   - acertos       : referências que acharam residente uma página antecipada e ainda não usada
+ *   - desperdiçadas : páginas antecipadas despejadas sem nenhum uso
+ *   - poluição      : faults de demanda que a mesma política sem leitura antecipada não teria
+ *                     (só com sombra: uma segunda instância que recebe só as referências)
+ */
+public final class LeituraAntecipada implements AlgoritmoComTick, AlgoritmoComEscrita, AlgoritmoComDespejo, OuvinteDespejo {
+
+    public static final int FLUXOS           = 8;
+    public static final int DISTANCIA_MAXIMA = 64;
+    public static final int JANELA_MINIMA    = 2;
+    public static final int JANELA_MAXIMA    = 64;
+
+    private static final int CONFIRMACOES = 2; // vezes que o passo precisa aparecer
+
+    private final AlgoritmoComDespejo politica;
+    private final AlgoritmoSubstituicaoPages sombra; // null = poluição não é medida
+    private final AlgoritmoComTick comTick; // null se a política não usa o relógio
+    private final int universo;
+    private final int janelaMinima;
+    private final int janelaMaxima;
+    private OuvinteDespejo ouvinte; // null = ninguém é avisado
+
+    private int pageFaults;
+    private long antecipadas;
+    private long acertos;
+    private long desperdicadas;
+    private long poluicao;
+
+    // Bit por página
+    private long[] residentes;
+    private long[] naoUsadas;   // antecipadas e ainda não referenciadas
+
+    // Tabela de fluxos
+    private final long[] ultima    = new long[FLUXOS];
+    private final int[]  passo     = new int[FLUXOS];
+    private final int[]  vistos    = new int[FLUXOS]; // vezes que o passo apareceu
+    private final int[]  janela    = new int[FLUXOS];
+    private final long[] proxima   = new long[FLUXOS]; // próxima página ainda não antecipada
+    private final long[] usoFluxo  = new long[FLUXOS];
+    private long relogio;
+
+    public LeituraAntecipada(AlgoritmoComDespejo politica) {
+        this(politica, null, 0);
+    }
+
+    /**
+     * @param sombra   instância nova da mesma política, para medir a poluição (ou null);
+     *                 getPageFaults() dela é o número de faults sem leitura antecipada
+     * @param universo páginas válidas são 0..universo-1; nada é antecipado fora disso
+     *                 (0 = desconhecido, só as negativas são descartadas)
+     */
+    public LeituraAntecipada(AlgoritmoComDespejo politica, AlgoritmoSubstituicaoPages sombra, int universo) {
+        this.politica     = politica;
+        this.sombra       = sombra;
+        this.comTick      = politica instanceof AlgoritmoComTick t ? t : null;
+        this.universo     = universo;
+        this.janelaMaxima = Math.max(1, Math.min(JANELA_MAXIMA, politica.getCapacity() / 4));
+        this.janelaMinima = Math.min(JANELA_MINIMA, janelaMaxima);
+        int palavras = (Math.max(universo, 64) + 63) >>> 6;
+        this.residentes = new long[palavras];
+        this.naoUsadas  = new long[palavras];
+        politica.setOuvinteDespejo(this);
+        limparFluxos();
+    }
+
+    @Override
+    public boolean accesso(int page) {
+        garantir(page);
+        boolean fault = politica.accesso(page);
+        boolean faultSombra = sombra != null && sombra.accesso(page);
+        if (fault) {
+            pageFaults++;
+            if (sombra != null && !faultSombra) poluicao++;
+            ligar(residentes, page);
+            observar(page, false);
+        } else if (testar(naoUsadas, page)) {
+            limpar(naoUsadas, page);
+            acertos++;
+            observar(page, true);
+        }
+        return fault;
+    }
+
+    @Override
+    public void despejada(int page) {
+        limpar(residentes, page);
+        if (testar(naoUsadas, page)) {
+            limpar(naoUsadas, page);
+            desperdicadas++;
+            for (int s = 0; s < FLUXOS; s++) janela[s] = Math.max(janelaMinima, janela[s] >> 1);
+        }
+        if (ouvinte != null) ouvinte.despejada(page);
+    }
+
+    // Atualiza a tabela de fluxos com um fault ou acerto de prefetch em page
+    private void observar(int page, boolean acerto) {
+        relogio++;
+        for (int s = 0; s < FLUXOS; s++) {
+            if (passo[s] != 0 && page == ultima[s] + passo[s]) {
+                ultima[s] = page;
+                usoFluxo[s] = relogio;
+                if (vistos[s] < CONFIRMACOES) vistos[s]++;
+                if (acerto) janela[s] = Math.min(janelaMaxima, janela[s] << 1);
+                if (vistos[s] >= CONFIRMACOES) antecipar(s, page);
+                return;
+            }
+        }
+
+        // Nenhum fluxo continua aqui: propõe um passo a partir do fluxo não confirmado mais próximo
+        int escolhido = -1;
+        long melhor = DISTANCIA_MAXIMA + 1;
+        for (int s = 0; s < FLUXOS; s++) {
+            if (vistos[s] >= CONFIRMACOES || ultima[s] < 0) continue;
+            long d = Math.abs(page - ultima[s]);
+            if (d != 0 && d < melhor) {
+                melhor = d;
+                escolhido = s;
+            }
+        }
+        if (escolhido >= 0) {
+            passo[escolhido] = (int) (page - ultima[escolhido]);
+            vistos[escolhido] = 1;
+        } else {
+            escolhido = 0;
+            for (int s = 1; s < FLUXOS; s++) {
+                if (usoFluxo[s] < usoFluxo[escolhido]) escolhido = s;
+            }
+            passo[escolhido] = 0;
+            vistos[escolhido] = 0;
+        }
+        ultima[escolhido]   = page;
+        janela[escolhido]   = janelaMinima;
+        proxima[escolhido]  = page;
+        usoFluxo[escolhido] = relogio;
+    }
+
+    // Deixa o fluxo s com janela páginas antecipadas à frente de page
+    private void antecipar(int s, int page) {
+        long d = passo[s];
+        long limite = page + d * janela[s];
+        long p = proxima[s];
+        // a próxima já ficou para trás (o fluxo andou mais rápido que a janela)
+        if ((p - page) * d <= 0) p = page + d;
+        for (; d > 0 ? p <= limite : p >= limite; p += d) {
+            // saiu do espaço de endereçamento: o fluxo acaba aqui
+            if (p < 0 || p > Integer.MAX_VALUE || (universo > 0 && p >= universo)) break;
+            trazer((int) p);
+        }
+        proxima[s] = p;
+    }
+
+    private void trazer(int page) {
+        garantir(page);
+        if (testar(residentes, page)) return;
+        politica.accesso(page);
+        ligar(residentes, page);
+        ligar(naoUsadas, page);
+        antecipadas++;
+    }
+
+    @Override
+    public void escrita(int page) {
+        if (politica instanceof AlgoritmoComEscrita comEscrita) comEscrita.escrita(page);
+        if (sombra instanceof AlgoritmoComEscrita comEscrita) comEscrita.escrita(page);
+    }
+
+    @Override
+    public void tick() {
+        if (comTick != null) {
+            comTick.tick();
+            if (sombra != null) ((AlgoritmoComTick) sombra).tick();
+        }
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) faults++;
+        }
+        return faults;
+    }
+
+    @Override
+    public int accessoLote(int[] refs, int from, int to, long[] mapaFaults) {
+        int faults = 0;
+        for (int i = from; i < to; i++) {
+            if (accesso(refs[i])) {
+                faults++;
+                mapaFaults[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+        return faults;
+    }
+
+    /** Só os faults de demanda; as leituras antecipadas não entram. */
+    @Override
+    public int getPageFaults() {
+        return pageFaults;
+    }
+
+    public long getAntecipadas() {
+        return antecipadas;
+    }
+
+    public long getAcertos() {
+        return acertos;
+    }
+
+    public long getDesperdicadas() {
+        return desperdicadas;
+    }
+
+    public long getPoluicao() {
+        return poluicao;
+    }
+
+    public AlgoritmoComDespejo getPolitica() {
+        return politica;
+    }
+
+    public AlgoritmoSubstituicaoPages getSombra() {
+        return sombra;
+    }
+
+    @Override
+    public void setOuvinteDespejo(OuvinteDespejo ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    @Override
+    public int getCapacity() {
+        return politica.getCapacity();
+    }
+
+    @Override
+    public void reset() {
+        politica.reset();
+        if (sombra != null) sombra.reset();
+        Arrays.fill(residentes, 0);
+        Arrays.fill(naoUsadas, 0);
+        pageFaults    = 0;
+        antecipadas   = 0;
+        acertos       = 0;
+        desperdicadas = 0;
+        poluicao      = 0;
+        limparFluxos();
+    }
+
+    private void limparFluxos() {
+        Arrays.fill(ultima, -1);
+        Arrays.fill(passo, 0);
+        Arrays.fill(vistos, 0);
+        Arrays.fill(janela, janelaMinima);
+        Arrays.fill(proxima, -1);
+        Arrays.fill(usoFluxo, 0);
+        relogio = 0;
+    }
+
+    // Cresce os bitsets quando o universo não é conhecido
+    private void garantir(int page) {
+        int w = page >>> 6;
+        if (w < residentes.length) return;
+        int n = Math.max(w + 1, residentes.length * 2);
+        residentes = Arrays.copyOf(residentes, n);
+        naoUsadas  = Arrays.copyOf(naoUsadas, n);
+    }
+
+    private static boolean testar(long[] bits, int page) {
+        return (bits[page >>> 6] & (1L << page)) != 0;
+    }
+
+    private static void ligar(long[] bits, int page) {
+        bits[page >>> 6] |= 1L << page;
+    }
+
+    private static void limpar(long[] bits, int page) {
+        bits[page >>> 6] &= ~(1L << page);
+    }
+}
@@ -0,0 +1,83 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grava um trace binário (FormatoTrace) em streaming, sem manter as referências em memória.
+ *
+ * Quantidade e universo só são conhecidos no fim: o cabeçalho é gravado com zeros
+ * e corrigido no close().
+ */
+public final class EscritorTrace implements AutoCloseable {
+
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final FileChannel canal;
+    private final ByteBuffer  buffer;
+    private final long inicioDados;
+
+    private long tamanho;
+    private int maiorPagina = -1;
+
+    public EscritorTrace(Path destino, String parametros) throws IOException {
+        this.canal = FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer cabecalho = FormatoTrace.montarCabecalho(0, 0, parametros);
+        this.inicioDados = cabecalho.remaining();
+        while (cabecalho.hasRemaining()) canal.write(cabecalho);
+        this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void adicionar(int page) throws IOException {
+        adicionar(page, false);
+    }
+
+    public void adicionar(int page, boolean escrita) throws IOException {
+        if (page < 0) throw new IllegalArgumentException("Pagina negativa: " + page);
+        if (!buffer.hasRemaining()) descarregar();
+        buffer.putInt(escrita ? page | FormatoTrace.BIT_ESCRITA : page);
+        if (page > maiorPagina) maiorPagina = page;
+        tamanho++;
+    }
+
+    public void adicionar(int[] referencias, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) adicionar(referencias[i]);
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    private void descarregar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) canal.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            descarregar();
+            ByteBuffer campos = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            campos.putInt(maiorPagina + 1);
+            campos.putLong(tamanho);
+            campos.flip();
+            canal.write(campos, FormatoTrace.POS_UNIVERSO);
+            canal.truncate(inicioDados + tamanho * Integer.BYTES);
+        } finally {
+            canal.close();
+        }
+    }
+
+    /** Atalho para gravar um trace que já está todo em memória. */
+    public static void gravar(Path destino, int[] referencias, String parametros) throws IOException {
+        try (EscritorTrace escritor = new EscritorTrace(destino, parametros)) {
+            escritor.adicionar(referencias, 0, referencias.length);
+        }
+    }
+}
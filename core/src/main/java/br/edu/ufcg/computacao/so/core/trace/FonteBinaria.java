@@ -0,0 +1,67 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Lê um trace binário (FormatoTrace) como stream — serve também para .trace.gz,
+ * que não pode ser mapeado em memória. Os bytes de cada bloco são convertidos
+ * para int com uma cópia em bloco via IntBuffer.
+ */
+final class FonteBinaria implements FonteReferencias {
+
+    private final InputStream entrada;
+    private final long tamanho;
+    private long lidas;
+    private byte[] bytes = new byte[0];
+
+    FonteBinaria(InputStream entrada) throws IOException {
+        this.entrada = entrada;
+
+        ByteBuffer fixo = ByteBuffer.wrap(lerExato(FormatoTrace.CABECALHO_FIXO)).order(ByteOrder.LITTLE_ENDIAN);
+        if (fixo.getInt() != FormatoTrace.MAGICA) throw new IOException("Arquivo nao e um trace binario (magica invalida)");
+        int versao = fixo.getInt();
+        FormatoTrace.verificarVersao(versao);
+        int tamanhoCabecalho = fixo.getInt();
+        fixo.getInt(); // universo
+        this.tamanho = fixo.getLong();
+
+        // Parâmetros e alinhamento: não são necessários para o replay
+        lerExato(tamanhoCabecalho - FormatoTrace.CABECALHO_FIXO);
+    }
+
+    @Override
+    public int lerBloco(int[] destino) throws IOException {
+        return lerBloco(destino, null);
+    }
+
+    @Override
+    public int lerBloco(int[] destino, long[] escritas) throws IOException {
+        if (escritas != null) Arrays.fill(escritas, 0);
+        if (lidas == tamanho) return -1;
+        int n = (int) Math.min(destino.length, tamanho - lidas);
+        int nBytes = n * Integer.BYTES;
+        if (bytes.length < nBytes) bytes = new byte[nBytes];
+
+        if (entrada.readNBytes(bytes, 0, nBytes) != nBytes) throw new EOFException("Trace binario truncado");
+        ByteBuffer.wrap(bytes, 0, nBytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(destino, 0, n);
+        FormatoTrace.separar(destino, 0, n, escritas);
+        lidas += n;
+        return n;
+    }
+
+    private byte[] lerExato(int n) throws IOException {
+        byte[] dados = entrada.readNBytes(n);
+        if (dados.length != n) throw new EOFException("Cabecalho de trace truncado");
+        return dados;
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+}
@@ -0,0 +1,104 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Lê um workload .csv (cabeçalho + uma página por linha) direto dos bytes, sem criar
+ * String por linha. A primeira coluna é a página; a segunda, opcional, é a operação
+ * (R ou W — vazia ou ausente, a referência é uma leitura). As colunas seguintes são
+ * ignoradas. Página fora do intervalo de int, lixo depois dela ou outra operação lançam
+ * IOException.
+ */
+final class FonteCsv implements FonteReferencias {
+
+    private final InputStream entrada;
+    private final byte[] buffer = new byte[1 << 16];
+    private int posicao;
+    private int limite;
+    private boolean fim;
+
+    FonteCsv(InputStream entrada) throws IOException {
+        this.entrada = entrada;
+        pularLinha(); // cabecalho
+    }
+
+    @Override
+    public int lerBloco(int[] destino) throws IOException {
+        return lerBloco(destino, null);
+    }
+
+    @Override
+    public int lerBloco(int[] destino, long[] escritas) throws IOException {
+        if (escritas != null) Arrays.fill(escritas, 0);
+        int n = 0;
+        while (n < destino.length) {
+            int b = proximoByte();
+            if (b < 0) break;
+            if (b == '\n' || b == '\r' || b == ' ' || b == '\t') continue;
+
+            if (b < '0' || b > '9') throw new IOException("Linha invalida no CSV (byte '" + (char) b + "')");
+            int valor = 0;
+            while (b >= '0' && b <= '9') {
+                int d = b - '0';
+                if (valor > (Integer.MAX_VALUE - d) / 10) {
+                    throw new IOException("Pagina fora do intervalo de int no CSV (" + valor + (char) b + "...)");
+                }
+                valor = valor * 10 + d;
+                b = proximoByte();
+            }
+            b = pularEspacos(b);
+            boolean escrita = false;
+            if (b == ',') {
+                b = pularEspacos(proximoByte());
+                if (b == 'W' || b == 'w' || b == 'R' || b == 'r') {
+                    escrita = b == 'W' || b == 'w';
+                    b = pularEspacos(proximoByte());
+                }
+                // coluna vazia é leitura; depois da operação só pode vir outra coluna ou o fim da linha
+                if (!fimDeCampo(b) && b != ',') {
+                    throw new IOException("Operacao invalida no CSV na pagina " + valor + " (byte '" + (char) b + "')");
+                }
+            } else if (!fimDeCampo(b)) {
+                throw new IOException("Pagina invalida no CSV: " + valor + " seguida do byte '" + (char) b + "'");
+            }
+            if (escrita && escritas != null) escritas[n >>> 6] |= 1L << n;
+            destino[n++] = valor;
+            if (b != '\n' && b >= 0) pularLinha();
+        }
+        return (n == 0 && fim) ? -1 : n;
+    }
+
+    private int pularEspacos(int b) throws IOException {
+        while (b == ' ' || b == '\t') b = proximoByte();
+        return b;
+    }
+
+    private static boolean fimDeCampo(int b) {
+        return b < 0 || b == '\n' || b == '\r';
+    }
+
+    private void pularLinha() throws IOException {
+        int b;
+        do {
+            b = proximoByte();
+        } while (b >= 0 && b != '\n');
+    }
+
+    private int proximoByte() throws IOException {
+        if (posicao == limite) {
+            if (fim) return -1;
+            limite = entrada.readNBytes(buffer, 0, buffer.length);
+            posicao = 0;
+            if (limite < buffer.length) fim = true;
+            if (limite == 0) return -1;
+        }
+        return buffer[posicao++] & 0xFF; // sem sinal: só o fim do arquivo é negativo
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+}
@@ -0,0 +1,54 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Fonte de referências lida em blocos de tamanho fixo: o trace nunca fica inteiro em
+ * memória, então o tamanho do trace não é limitado pelo heap.
+ *
+ * Formatos (pela extensão): .csv, .csv.gz, .trace, .trace.gz
+ */
+public interface FonteReferencias extends AutoCloseable {
+
+    int TAMANHO_BLOCO_PADRAO = 1 << 16;
+
+    /**
+     * Preenche destino a partir da posição 0.
+     *
+     * @return quantidade de referências lidas (pode ser menor que destino.length),
+     *         ou -1 no fim do trace
+     */
+    int lerBloco(int[] destino) throws IOException;
+
+    /**
+     * Igual a lerBloco(destino), zerando escritas e ligando nele o bit i de cada
+     * referência destino[i] que é uma escrita. escritas precisa de ao menos
+     * (destino.length + 63) / 64 posições.
+     */
+    int lerBloco(int[] destino, long[] escritas) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static FonteReferencias abrir(Path arquivo) throws IOException {
+        String nome = arquivo.getFileName().toString();
+        boolean gzip = nome.endsWith(".gz");
+        if (gzip) nome = nome.substring(0, nome.length() - 3);
+
+        InputStream entrada = Files.newInputStream(arquivo);
+        try {
+            if (gzip) entrada = new GZIPInputStream(entrada, 1 << 16);
+            if (nome.endsWith(FormatoTrace.EXTENSAO)) return new FonteBinaria(entrada);
+            if (nome.endsWith(".csv")) return new FonteCsv(entrada);
+        } catch (IOException | RuntimeException e) {
+            entrada.close();
+            throw e;
+        }
+        entrada.close();
+        throw new IOException("Formato de trace desconhecido: " + arquivo);
+    }
+}
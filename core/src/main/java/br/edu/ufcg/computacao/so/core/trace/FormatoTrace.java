@@ -0,0 +1,121 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formato binário de trace (.trace), little-endian.
+ *
+ * Cabeçalho:
+ *   0  : 4 bytes  mágica "MTRC"
+ *   4  : int      versão
+ *   8  : int      tamanho do cabeçalho em bytes (= início das referências, múltiplo de 8)
+ *   12 : int      universo (maior página + 1)
+ *   16 : long     quantidade de referências
+ *   24 : int      tamanho em bytes dos parâmetros do gerador
+ *   28 : bytes    parâmetros do gerador, UTF-8 ("chave=valor;chave=valor")
+ *
+ * Corpo: uma referência por int32, sem separadores — pode ser mapeado direto em memória.
+ *   versão 1: o int32 é a página
+ *   versão 2: bits 0-30 são a página e o bit 31 (sinal) indica escrita; como as páginas
+ *             nunca são negativas, um trace v1 é lido igual a um v2 só de leituras
+ */
+public final class FormatoTrace {
+
+    public static final String EXTENSAO = ".trace";
+
+    static final int MAGICA = 0x4352544D; // "MTRC" lido em little-endian
+    static final int VERSAO = 2;
+    static final int VERSAO_MINIMA = 1;
+
+    /** Bit de escrita de uma referência v2; o resto da palavra é a página. */
+    public static final int BIT_ESCRITA    = 0x80000000;
+    public static final int MASCARA_PAGINA = 0x7FFFFFFF;
+
+    static final int POS_UNIVERSO   = 12; // universo e quantidade, corrigidos ao fechar o escritor
+    static final int CABECALHO_FIXO = 28;
+
+    private FormatoTrace() {}
+
+    /** Cabeçalho lido de um arquivo .trace. */
+    public static final class Cabecalho {
+        public final int    versao;
+        public final int    tamanhoCabecalho;
+        public final int    universo;
+        public final long   tamanho;
+        public final String parametros;
+
+        Cabecalho(int versao, int tamanhoCabecalho, int universo, long tamanho, String parametros) {
+            this.versao           = versao;
+            this.tamanhoCabecalho = tamanhoCabecalho;
+            this.universo         = universo;
+            this.tamanho          = tamanho;
+            this.parametros       = parametros;
+        }
+    }
+
+    static ByteBuffer montarCabecalho(int universo, long tamanho, String parametros) {
+        byte[] bytesParametros = parametros.getBytes(StandardCharsets.UTF_8);
+        int tamanhoCabecalho = (CABECALHO_FIXO + bytesParametros.length + 7) & ~7;
+
+        ByteBuffer buffer = ByteBuffer.allocate(tamanhoCabecalho).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGICA);
+        buffer.putInt(VERSAO);
+        buffer.putInt(tamanhoCabecalho);
+        buffer.putInt(universo);
+        buffer.putLong(tamanho);
+        buffer.putInt(bytesParametros.length);
+        buffer.put(bytesParametros);
+        buffer.position(0);
+        return buffer;
+    }
+
+    static Cabecalho lerCabecalho(FileChannel canal) throws IOException {
+        ByteBuffer fixo = ByteBuffer.allocate(CABECALHO_FIXO).order(ByteOrder.LITTLE_ENDIAN);
+        lerTudo(canal, fixo, 0);
+        fixo.flip();
+
+        if (fixo.getInt() != MAGICA) throw new IOException("Arquivo nao e um trace binario (magica invalida)");
+        int versao = fixo.getInt();
+        verificarVersao(versao);
+        int tamanhoCabecalho = fixo.getInt();
+        int universo = fixo.getInt();
+        long tamanho = fixo.getLong();
+        int bytesParametros = fixo.getInt();
+
+        ByteBuffer parametros = ByteBuffer.allocate(bytesParametros);
+        lerTudo(canal, parametros, CABECALHO_FIXO);
+        String textoParametros = new String(parametros.array(), StandardCharsets.UTF_8);
+
+        return new Cabecalho(versao, tamanhoCabecalho, universo, tamanho, textoParametros);
+    }
+
+    static void verificarVersao(int versao) throws IOException {
+        if (versao < VERSAO_MINIMA || versao > VERSAO) throw new IOException("Versao de trace nao suportada: " + versao);
+    }
+
+    /**
+     * Separa palavras[from..to) lidas do corpo em página e escrita: tira o bit de escrita
+     * da palavra e, se escritas não é null, liga nele o bit (i - from) de cada escrita.
+     */
+    static void separar(int[] palavras, int from, int to, long[] escritas) {
+        for (int i = from; i < to; i++) {
+            int palavra = palavras[i];
+            if (palavra < 0) {
+                palavras[i] = palavra & MASCARA_PAGINA;
+                if (escritas != null) escritas[(i - from) >>> 6] |= 1L << (i - from);
+            }
+        }
+    }
+
+    private static void lerTudo(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) throw new IOException("Cabecalho de trace truncado");
+            posicao += lidos;
+        }
+    }
+}
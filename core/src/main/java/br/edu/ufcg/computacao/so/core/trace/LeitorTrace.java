@@ -0,0 +1,104 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carrega um trace inteiro para int[] (e, se pedido, o mapa de escritas), escolhendo o
+ * formato pela extensão:
+ *   - .trace          : binário mapeado em memória (cópia em bloco, sem parsing)
+ *   - .csv, .gz, ...  : lido em blocos por uma FonteReferencias
+ */
+public final class LeitorTrace {
+
+    /** Extensões aceitas, em ordem de preferência quando o mesmo workload tem várias. */
+    public static final List<String> EXTENSOES = List.of(
+            FormatoTrace.EXTENSAO, FormatoTrace.EXTENSAO + ".gz", ".csv", ".csv.gz");
+
+    private LeitorTrace() {}
+
+    /** Trace em memória com o mapa de escritas: bit i ligado = a referência i é uma escrita. */
+    public static final class Carregado {
+        public final int[]  referencias;
+        public final long[] escritas;
+
+        Carregado(int[] referencias, long[] escritas) {
+            this.referencias = referencias;
+            this.escritas    = escritas;
+        }
+    }
+
+    public static int[] carregar(Path arquivo) throws IOException {
+        return carregarComEscritas(arquivo).referencias;
+    }
+
+    /** Páginas e operações (R/W); traces sem operação vêm só com leituras. */
+    public static Carregado carregarComEscritas(Path arquivo) throws IOException {
+        if (arquivo.getFileName().toString().endsWith(FormatoTrace.EXTENSAO)) {
+            TraceBinario trace = TraceBinario.abrir(arquivo);
+            if (trace.tamanho() > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Trace com " + trace.tamanho() + " referencias nao cabe em um int[]");
+            }
+            int[] referencias = new int[(int) trace.tamanho()];
+            long[] escritas = new long[(referencias.length + 63) >>> 6];
+            trace.copiar(0, referencias.length, referencias, 0, escritas);
+            return new Carregado(referencias, escritas);
+        }
+
+        int[] sequencia = new int[FonteReferencias.TAMANHO_BLOCO_PADRAO];
+        long[] escritas = new long[sequencia.length >>> 6];
+        int tamanho = 0;
+        try (FonteReferencias fonte = FonteReferencias.abrir(arquivo)) {
+            int[] bloco = new int[FonteReferencias.TAMANHO_BLOCO_PADRAO];
+            long[] escritasBloco = new long[bloco.length >>> 6];
+            int n;
+            while ((n = fonte.lerBloco(bloco, escritasBloco)) >= 0) {
+                if (tamanho + n > sequencia.length) {
+                    sequencia = Arrays.copyOf(sequencia, Math.max(tamanho + n, tamanho * 2));
+                    escritas  = Arrays.copyOf(escritas, (sequencia.length + 63) >>> 6);
+                }
+                System.arraycopy(bloco, 0, sequencia, tamanho, n);
+                for (int w = 0; w < escritasBloco.length; w++) {
+                    for (long palavra = escritasBloco[w]; palavra != 0; palavra &= palavra - 1) {
+                        int i = tamanho + (w << 6) + Long.numberOfTrailingZeros(palavra);
+                        escritas[i >>> 6] |= 1L << i;
+                    }
+                }
+                tamanho += n;
+            }
+        }
+        return new Carregado(Arrays.copyOf(sequencia, tamanho), Arrays.copyOf(escritas, (tamanho + 63) >>> 6));
+    }
+
+    /**
+     * Arquivo preferido de um workload (ver EXTENSOES), ou o .csv se nenhum existir.
+     *
+     * @param semExtensao caminho do workload sem extensão (ex.: data/workloads/random_xl_wide)
+     */
+    public static Path resolver(Path semExtensao) {
+        for (String extensao : EXTENSOES) {
+            Path candidato = semExtensao.resolveSibling(semExtensao.getFileName() + extensao);
+            if (Files.exists(candidato)) return candidato;
+        }
+        return semExtensao.resolveSibling(semExtensao.getFileName() + ".csv");
+    }
+
+    /** Nome do workload (sem extensão) ou null se a extensão não é de trace. */
+    public static String nomeWorkload(String arquivo) {
+        for (String extensao : EXTENSOES) {
+            if (arquivo.endsWith(extensao)) return arquivo.substring(0, arquivo.length() - extensao.length());
+        }
+        return null;
+    }
+
+    /** Posição da extensão em EXTENSOES (menor = preferido). */
+    public static int prioridade(String arquivo) {
+        for (int i = 0; i < EXTENSOES.size(); i++) {
+            if (arquivo.endsWith(EXTENSOES.get(i))) return i;
+        }
+        return Integer.MAX_VALUE;
+    }
+}
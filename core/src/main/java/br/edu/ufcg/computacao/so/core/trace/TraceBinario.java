@@ -0,0 +1,115 @@
+package core.src.main.java.br.edu.ufcg.computacao.so.core.trace;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Trace binário mapeado em memória (FileChannel.map): as referências são lidas direto
+ * das páginas do arquivo, sem parsing nem boxing. Abrir custa só a leitura do cabeçalho.
+ * get(), copiar() e paraArray() devolvem só a página; o bit de escrita (v2) sai em
+ * copiar(..., escritas).
+ *
+ * Cada mapeamento cobre no máximo SEGMENTO referências (limite de índice int do
+ * IntBuffer); traces maiores ficam divididos em vários segmentos.
+ */
+public final class TraceBinario {
+
+    public static final int SEGMENTO = 1 << 28; // 256M referências = 1 GiB por mapeamento
+
+    private final FormatoTrace.Cabecalho cabecalho;
+    private final IntBuffer[] segmentos;
+
+    private TraceBinario(FormatoTrace.Cabecalho cabecalho, IntBuffer[] segmentos) {
+        this.cabecalho = cabecalho;
+        this.segmentos = segmentos;
+    }
+
+    public static TraceBinario abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            FormatoTrace.Cabecalho cabecalho = FormatoTrace.lerCabecalho(canal);
+
+            long esperado = cabecalho.tamanhoCabecalho + cabecalho.tamanho * Integer.BYTES;
+            if (canal.size() < esperado) throw new IOException("Trace truncado: " + arquivo);
+
+            int quantidade = (int) ((cabecalho.tamanho + SEGMENTO - 1) / SEGMENTO);
+            IntBuffer[] segmentos = new IntBuffer[quantidade];
+            for (int s = 0; s < quantidade; s++) {
+                long primeiro = (long) s * SEGMENTO;
+                long referencias = Math.min(SEGMENTO, cabecalho.tamanho - primeiro);
+                segmentos[s] = canal.map(FileChannel.MapMode.READ_ONLY,
+                                cabecalho.tamanhoCabecalho + primeiro * Integer.BYTES,
+                                referencias * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer();
+            }
+            // O mapeamento continua válido depois de fechar o canal
+            return new TraceBinario(cabecalho, segmentos);
+        }
+    }
+
+    public long tamanho() {
+        return cabecalho.tamanho;
+    }
+
+    public int universo() {
+        return cabecalho.universo;
+    }
+
+    public String parametros() {
+        return cabecalho.parametros;
+    }
+
+    public int get(long indice) {
+        return segmentos[(int) (indice / SEGMENTO)].get((int) (indice % SEGMENTO)) & FormatoTrace.MASCARA_PAGINA;
+    }
+
+    public boolean escrita(long indice) {
+        return segmentos[(int) (indice / SEGMENTO)].get((int) (indice % SEGMENTO)) < 0;
+    }
+
+    public int quantidadeSegmentos() {
+        return segmentos.length;
+    }
+
+    /** Visão int do segmento s (somente leitura, posição independente por chamada), com o bit de escrita. */
+    public IntBuffer segmento(int s) {
+        return segmentos[s].duplicate();
+    }
+
+    /** Copia as páginas de [from, to) para destino[offset..] com cópia em bloco. */
+    public void copiar(long from, long to, int[] destino, int offset) {
+        copiar(from, to, destino, offset, null);
+    }
+
+    /**
+     * Igual a copiar(from, to, destino, offset), ligando em escritas o bit (i - from)
+     * de cada referência i que é escrita (escritas não é zerado).
+     */
+    public void copiar(long from, long to, int[] destino, int offset, long[] escritas) {
+        int inicio = offset;
+        int total = (int) (to - from);
+        while (from < to) {
+            int s = (int) (from / SEGMENTO);
+            int dentro = (int) (from % SEGMENTO);
+            int n = (int) Math.min(to - from, SEGMENTO - dentro);
+            segmentos[s].get(dentro, destino, offset, n);
+            from += n;
+            offset += n;
+        }
+        FormatoTrace.separar(destino, inicio, inicio + total, escritas);
+    }
+
+    /** Copia o trace inteiro para um int[] (precisa caber num array). */
+    public int[] paraArray() {
+        if (cabecalho.tamanho > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Trace com " + cabecalho.tamanho + " referencias nao cabe em um int[]");
+        }
+        int[] referencias = new int[(int) cabecalho.tamanho];
+        copiar(0, cabecalho.tamanho, referencias, 0);
+        return referencias;
+    }
+}
@@ -6,18 +6,27 @@ Para mudar a seed, edite a constante SEED abaixo.
 Uso:
     python generate_workloads.py
     python generate_workloads.py --output data/workloads  # pasta customizada
+    python generate_workloads.py --binario                # também grava .trace binário
+    python generate_workloads.py --escritas 0.1           # fração de escritas (default 0.3)
+
+Cada referência é uma leitura (R) ou escrita (W). As operações são sorteadas com um
+gerador próprio, então as páginas são as mesmas para qualquer fração de escritas.
 """
 
 import argparse
 import random
 import os
 import csv
+import struct
 
 # ─────────────────────────────────────────────
 # Seed global — edite aqui para mudar
 # ─────────────────────────────────────────────
 SEED = 7942
 
+# Probabilidade de uma referência ser escrita (sobrescrita por --escritas)
+WRITE_PROB = 0.3
+
 # ─────────────────────────────────────────────
 # Configuração dos workloads a gerar
 # ─────────────────────────────────────────────
@@ -127,16 +136,35 @@ GENERATORS = {
     "phases":     generate_phases,
 }
 
+def generate_ops(length, write_prob, seed):
+    """True = escrita. Gerador separado: não muda a sequência de páginas."""
+    rng = random.Random(seed ^ 0x5EED0B5)
+    return [rng.random() < write_prob for _ in range(length)]
+
 # ─────────────────────────────────────────────
 # I/O
 # ─────────────────────────────────────────────
-def save_csv(sequence, path):
+def save_csv(sequence, ops, path):
     os.makedirs(os.path.dirname(path), exist_ok=True)
     with open(path, "w", newline="") as f:
         writer = csv.writer(f)
-        writer.writerow(["page"])
-        for page in sequence:
-            writer.writerow([page])
+        writer.writerow(["page", "op"])
+        for page, escrita in zip(sequence, ops):
+            writer.writerow([page, "W" if escrita else "R"])
+
+def save_trace(sequence, ops, path, params):
+    """Formato binário .trace v2 (ver core/.../trace/FormatoTrace.java), little-endian: bit 31 = escrita."""
+    os.makedirs(os.path.dirname(path), exist_ok=True)
+    texto = ";".join(f"{k}={v}" for k, v in params.items()).encode("utf-8")
+    tamanho_cabecalho = (28 + len(texto) + 7) & ~7
+    universo = max(sequence) + 1 if sequence else 0
+    with open(path, "wb") as f:
+        f.write(b"MTRC")
+        f.write(struct.pack("<iiiqi", 2, tamanho_cabecalho, universo, len(sequence), len(texto)))
+        f.write(texto)
+        f.write(b"\0" * (tamanho_cabecalho - 28 - len(texto)))
+        palavras = [page | 0x80000000 if escrita else page for page, escrita in zip(sequence, ops)]
+        f.write(struct.pack(f"<{len(palavras)}I", *palavras))
 
 # ─────────────────────────────────────────────
 # Main
@@ -145,9 +173,13 @@ def main():
     parser = argparse.ArgumentParser(description="Gera todos os workloads de uma vez")
     parser.add_argument("--output", default="data/workloads",
                         help="Pasta de saída (default: data/workloads)")
+    parser.add_argument("--binario", action="store_true",
+                        help="Grava também o trace binário .trace (com os parâmetros do gerador)")
+    parser.add_argument("--escritas", type=float, default=WRITE_PROB,
+                        help="Fração de referências que são escrita (default: %(default)s)")
     args = parser.parse_args()
 
-    print(f"Seed: {SEED}  |  Saída: {args.output}/\n")
+    print(f"Seed: {SEED}  |  Escritas: {args.escritas:.0%}  |  Saída: {args.output}/\n")
 
     for name, tipo, length, universe, kwargs in WORKLOADS:
         # Seed derivada: garante reprodutibilidade independente da ordem
@@ -155,8 +187,14 @@ def main():
         random.seed(derived_seed)
 
         sequence = GENERATORS[tipo](length, universe, **kwargs)
+        ops      = generate_ops(length, args.escritas, derived_seed)
         path     = os.path.join(args.output, f"{name}.csv")
-        save_csv(sequence, path)
+        save_csv(sequence, ops, path)
+
+        if args.binario:
+            params = {"tipo": tipo, "length": length, "universe": universe,
+                      "seed": derived_seed, "write_prob": args.escritas, **kwargs}
+            save_trace(sequence, ops, os.path.join(args.output, f"{name}.trace"), params)
 
         print(f"  ✓ {name}.csv  ({tipo}, length={length}, universe={universe})")
 
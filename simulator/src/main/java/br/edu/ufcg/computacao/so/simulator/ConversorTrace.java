@@ -0,0 +1,63 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.EscritorTrace;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.FormatoTrace;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Converte workloads .csv para o formato binário .trace (FormatoTrace), linha a linha,
+ * sem carregar o trace inteiro em memória. A coluna op (R/W), se existir, vira o bit
+ * de escrita de cada referência.
+ *
+ * Uso: ConversorTrace [arquivo.csv ...]   (sem argumentos converte data/workloads/*.csv)
+ */
+public class ConversorTrace {
+
+    public static void main(String[] args) throws Exception {
+        List<File> arquivosCsv = new ArrayList<>();
+        if (args.length > 0) {
+            for (String caminho : args) arquivosCsv.add(new File(caminho));
+        } else {
+            File[] arquivos = new File("data/workloads").listFiles((dir, nome) -> nome.endsWith(".csv"));
+            if (arquivos == null || arquivos.length == 0) {
+                System.err.println("Nenhum CSV encontrado na pasta data/workloads");
+                return;
+            }
+            Collections.addAll(arquivosCsv, arquivos);
+            Collections.sort(arquivosCsv);
+        }
+
+        for (File csv : arquivosCsv) {
+            File destino = new File(csv.getParentFile(), csv.getName().replace(".csv", FormatoTrace.EXTENSAO));
+            long referencias = converter(csv, destino);
+            System.out.printf("  %-45s -> %s (%,d refs)%n", csv.getName(), destino.getName(), referencias);
+        }
+    }
+
+    static long converter(File csv, File destino) throws Exception {
+        try (BufferedReader br = new BufferedReader(new FileReader(csv));
+             EscritorTrace escritor = new EscritorTrace(destino.toPath(), "origem=" + csv.getName())) {
+            br.readLine(); // pula cabecalho
+            String linha;
+            while ((linha = br.readLine()) != null) {
+                linha = linha.trim();
+                if (linha.isEmpty()) continue;
+                // page[,op]: op W = escrita, qualquer outra coisa (ou nada) = leitura
+                int virgula = linha.indexOf(',');
+                if (virgula < 0) {
+                    escritor.adicionar(Integer.parseInt(linha));
+                } else {
+                    boolean escrita = linha.substring(virgula + 1).trim().equalsIgnoreCase("W");
+                    escritor.adicionar(Integer.parseInt(linha.substring(0, virgula).trim()), escrita);
+                }
+            }
+            return escritor.getTamanho();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Executa uma grade de tarefas independentes (workload x frames x algoritmo) em paralelo.
+ *
+ * - Pool work-stealing (ForkJoinPool) com paralelismo configurável.
+ * - Os resultados voltam na mesma ordem das tarefas de entrada, então os relatórios
+ *   saem idênticos aos da execução sequencial.
+ * - O progresso é impresso por uma única thread a cada segundo, não por tarefa.
+ */
+public final class ExecutorGrade {
+
+    private final int paralelismo;
+
+    public ExecutorGrade(int paralelismo) {
+        if (paralelismo < 1) throw new IllegalArgumentException("paralelismo < 1");
+        this.paralelismo = paralelismo;
+    }
+
+    /** Paralelismo de -Dsimulator.paralelismo ou, por padrão, o número de núcleos. */
+    public static ExecutorGrade padrao() {
+        return new ExecutorGrade(Integer.getInteger("simulator.paralelismo",
+                Runtime.getRuntime().availableProcessors()));
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * @param tarefas tarefas independentes (devem só ler os dados compartilhados)
+     * @param custo   estimativa de custo; as mais caras são submetidas primeiro
+     * @param rotulo  nome da etapa no relatório de progresso
+     * @return resultados na ordem de tarefas
+     */
+    public <T> List<T> executar(List<Callable<T>> tarefas, IntToLongFunction custo, String rotulo) throws Exception {
+        int total = tarefas.size();
+        AtomicInteger concluidas = new AtomicInteger();
+
+        List<Integer> ordemSubmissao = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) ordemSubmissao.add(i);
+        ordemSubmissao.sort(Comparator.comparingLong((Integer i) -> custo.applyAsLong(i)).reversed());
+
+        Thread progresso = Thread.ofPlatform().daemon().name("progresso-" + rotulo).start(() -> {
+            try {
+                while (concluidas.get() < total) {
+                    TimeUnit.SECONDS.sleep(1);
+                    System.out.printf("  [%s] %d/%d tarefas concluidas%n", rotulo, concluidas.get(), total);
+                }
+            } catch (InterruptedException ignored) {
+                // fim da etapa
+            }
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            List<Future<T>> futuros = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) futuros.add(null);
+            for (int i : ordemSubmissao) {
+                Callable<T> tarefa = tarefas.get(i);
+                futuros.set(i, pool.submit(() -> {
+                    T resultado = tarefa.call();
+                    concluidas.incrementAndGet();
+                    return resultado;
+                }));
+            }
+
+            List<T> resultados = new ArrayList<>(total);
+            for (Future<T> futuro : futuros) {
+                try {
+                    resultados.add(futuro.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception causa) throw causa;
+                    throw e;
+                }
+            }
+            return resultados;
+        } finally {
+            pool.shutdownNow();
+            progresso.interrupt();
+            progresso.join();
+            System.out.printf("  [%s] %d/%d tarefas concluidas%n", rotulo, concluidas.get(), total);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Fila de prioridade de eventos por instante simulado: min-heap binário em arrays
+ * paralelos (tempo, sequência, dado), sem objeto por evento. Empates no tempo saem na
+ * ordem de inserção, então a simulação é determinística.
+ *
+ * O dado é um int livre; o SimuladorTempo guarda nele o tipo do evento e o id.
+ */
+final class FilaEventos {
+
+    private long[] tempos;
+    private long[] seqs;
+    private int[]  dados;
+    private int tamanho;
+    private long proximaSeq;
+
+    FilaEventos(int capacidadeInicial) {
+        int c = Math.max(4, capacidadeInicial);
+        tempos = new long[c];
+        seqs   = new long[c];
+        dados  = new int[c];
+    }
+
+    void inserir(long tempo, int dado) {
+        if (tamanho == tempos.length) {
+            int c = tamanho * 2;
+            tempos = Arrays.copyOf(tempos, c);
+            seqs   = Arrays.copyOf(seqs, c);
+            dados  = Arrays.copyOf(dados, c);
+        }
+        long seq = proximaSeq++;
+        // sobe a partir da folha
+        int pos = tamanho++;
+        while (pos > 0) {
+            int pai = (pos - 1) >>> 1;
+            if (!menor(tempo, seq, tempos[pai], seqs[pai])) break;
+            mover(pai, pos);
+            pos = pai;
+        }
+        tempos[pos] = tempo;
+        seqs[pos]   = seq;
+        dados[pos]  = dado;
+    }
+
+    boolean vazia() {
+        return tamanho == 0;
+    }
+
+    /** Instante do próximo evento (Long.MAX_VALUE se vazia). */
+    long tempoTopo() {
+        return tamanho == 0 ? Long.MAX_VALUE : tempos[0];
+    }
+
+    /** Remove o próximo evento e devolve o dado; o instante é o tempoTopo() de antes. */
+    int remover() {
+        int dado = dados[0];
+        int ultimo = --tamanho;
+        if (ultimo > 0) {
+            long tempo = tempos[ultimo];
+            long seq   = seqs[ultimo];
+            int  d     = dados[ultimo];
+            // desce a partir da raiz
+            int pos = 0;
+            while (true) {
+                int filho = 2 * pos + 1;
+                if (filho >= ultimo) break;
+                if (filho + 1 < ultimo && menor(tempos[filho + 1], seqs[filho + 1], tempos[filho], seqs[filho])) filho++;
+                if (!menor(tempos[filho], seqs[filho], tempo, seq)) break;
+                mover(filho, pos);
+                pos = filho;
+            }
+            tempos[pos] = tempo;
+            seqs[pos]   = seq;
+            dados[pos]  = d;
+        }
+        return dado;
+    }
+
+    private void mover(int de, int para) {
+        tempos[para] = tempos[de];
+        seqs[para]   = seqs[de];
+        dados[para]  = dados[de];
+    }
+
+    private static boolean menor(long t1, long s1, long t2, long s2) {
+        return t1 < t2 || (t1 == t2 && s1 < s2);
+    }
+}
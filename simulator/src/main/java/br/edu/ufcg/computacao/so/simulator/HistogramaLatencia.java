@@ -0,0 +1,70 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+/**
+ * Histograma de latências em nanossegundos com buckets log-lineares (como o HdrHistogram):
+ * cada potência de 2 é dividida em 2^SUB_BITS faixas, então o erro relativo de um
+ * percentil é no máximo 1/2^SUB_BITS. Memória fixa e pequena (um por cliente), sem
+ * alocação ao registrar.
+ *
+ * Não é thread-safe: cada cliente registra no seu e os histogramas são somados no fim.
+ */
+final class HistogramaLatencia {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB      = 1 << SUB_BITS;
+    private static final int MAX_EXP  = 40; // ~18 minutos; acima disso vai para o último bucket
+
+    private final int[] contagens = new int[(MAX_EXP - SUB_BITS + 1) << SUB_BITS];
+    private long total;
+    private long maximo;
+
+    void registrar(long nanos) {
+        if (nanos < 0) nanos = 0;
+        contagens[indice(nanos)]++;
+        total++;
+        if (nanos > maximo) maximo = nanos;
+    }
+
+    void somar(HistogramaLatencia outro) {
+        for (int i = 0; i < contagens.length; i++) contagens[i] += outro.contagens[i];
+        total += outro.total;
+        if (outro.maximo > maximo) maximo = outro.maximo;
+    }
+
+    /** Menor valor v (limite superior do bucket) com pelo menos fracao das amostras <= v. */
+    long percentil(double fracao) {
+        if (total == 0) return 0;
+        long alvo = Math.max(1, (long) Math.ceil(fracao * total));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) return Math.min(limiteSuperior(i), maximo);
+        }
+        return maximo;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    long getMaximo() {
+        return maximo;
+    }
+
+    // Valores < SUB são exatos; acima, (expoente, SUB_BITS bits seguintes ao mais alto)
+    private static int indice(long nanos) {
+        if (nanos < SUB) return (int) nanos;
+        if (nanos >= 1L << MAX_EXP) nanos = (1L << MAX_EXP) - 1;
+        int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exp - SUB_BITS)) & (SUB - 1);
+        return ((exp - SUB_BITS + 1) << SUB_BITS) | sub;
+    }
+
+    private static long limiteSuperior(int indice) {
+        int faixa = indice >>> SUB_BITS;
+        int sub = indice & (SUB - 1);
+        if (faixa == 0) return sub;
+        int exp = faixa + SUB_BITS - 1;
+        return ((long) (SUB | sub) + 1 << (exp - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,216 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoClockLivreDeTravas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoLRUComBuffer;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.concorrente.AlgoritmoLRUFragmentado;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Milhares de clientes concorrentes contra um único cache compartilhado: uma virtual thread
+ * por cliente, cada uma repetindo a sua fatia contígua do trace. Opcionalmente cada fault
+ * estaciona a thread por latenciaFault microssegundos (o tempo de trazer a página), o que
+ * deixa os outros clientes avançarem como num servidor real.
+ *
+ * Para cada workload, algoritmo, número de frames, número de clientes e latência, reporta
+ * hits por segundo, percentis de latência por acesso (p50/p99/p999, incluindo a espera do
+ * fault) e a taxa de faults sob contenção.
+ *
+ * Uso: ReplayMultiCliente [workload ...]   (sem argumentos usa WORKLOADS_PADRAO)
+ *   -Dsimulator.clientes=1,10,...   -Dsimulator.frames=1024,...   -Dsimulator.latenciaFault=0,100,...
+ */
+public class ReplayMultiCliente {
+
+    // LRUTravaUnica = LRU com um unico fragmento, a linha de base com trava global
+    private static final List<String> ALGORITMOS = List.of("LRUTravaUnica", "LRUFragmentado", "ClockLivreDeTravas", "LRUComBuffer");
+    private static final List<String> WORKLOADS_PADRAO = List.of("locality_lg_medium_hot70", "phases_xl_wide_p8", "random_xl_wide");
+
+    private static final int[] CLIENTES       = inteiros("simulator.clientes", "1,10,100,1000,10000");
+    private static final int[] FRAMES         = inteiros("simulator.frames", "1024");
+    private static final int[] LATENCIAS_US   = inteiros("simulator.latenciaFault", "0");
+
+    static class ResultadoReplay {
+        String workload;
+        String algoritmo;
+        int frames;
+        int clientes;
+        int latenciaUs;
+        long hits;
+        long faults;
+        long nanos;
+        HistogramaLatencia latencias;
+
+        ResultadoReplay(String workload, String algoritmo, int frames, int clientes, int latenciaUs,
+                        long hits, long faults, long nanos, HistogramaLatencia latencias) {
+            this.workload   = workload;
+            this.algoritmo  = algoritmo;
+            this.frames     = frames;
+            this.clientes   = clientes;
+            this.latenciaUs = latenciaUs;
+            this.hits       = hits;
+            this.faults     = faults;
+            this.nanos      = nanos;
+            this.latencias  = latencias;
+        }
+
+        double getTaxaFalha() {
+            long total = hits + faults;
+            return total == 0 ? 0.0 : (100.0 * faults) / total;
+        }
+
+        double getHitsPorSegundo() {
+            return nanos == 0 ? 0.0 : hits * 1e9 / nanos;
+        }
+    }
+
+    // Contadores de um cliente; somados depois que todos terminam
+    private static final class Cliente {
+        final HistogramaLatencia latencias = new HistogramaLatencia();
+        long hits;
+        long faults;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> workloads = args.length > 0 ? List.of(args) : WORKLOADS_PADRAO;
+
+        System.out.println("Replay com virtual threads: " + workloads.size() + " workloads, clientes "
+                + java.util.Arrays.toString(CLIENTES) + "...\n");
+
+        List<ResultadoReplay> resultados = new ArrayList<>();
+        for (String workload : workloads) {
+            int[] referencias = LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+            int universo = IndiceResidencia.universo(referencias);
+            for (int latenciaUs : LATENCIAS_US) {
+                for (int frames : FRAMES) {
+                    for (String algoritmo : ALGORITMOS) {
+                        for (int clientes : CLIENTES) {
+                            AlgoritmoSubstituicaoPages cache = criarCache(algoritmo, frames, universo);
+                            ResultadoReplay r = replay(workload, referencias, cache, algoritmo, clientes, latenciaUs);
+                            System.out.printf("  %-26s %-19s frames=%-5d clientes=%-6d latencia=%dus  %,.0f hits/s  faults %.2f%%  p99 %,d ns%n",
+                                    workload, algoritmo, frames, clientes, latenciaUs,
+                                    r.getHitsPorSegundo(), r.getTaxaFalha(), r.latencias.percentil(0.99));
+                            resultados.add(r);
+                        }
+                    }
+                }
+            }
+        }
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+        gerarCsv(resultados);
+        System.out.println("\nResultados em results/replay_multicliente.csv");
+    }
+
+    static AlgoritmoSubstituicaoPages criarCache(String nome, int frames, int universo) {
+        return switch (nome) {
+            case "LRUTravaUnica"      -> new AlgoritmoLRUFragmentado(frames, 1);
+            case "LRUFragmentado"     -> new AlgoritmoLRUFragmentado(frames);
+            case "ClockLivreDeTravas" -> new AlgoritmoClockLivreDeTravas(frames, universo);
+            case "LRUComBuffer"       -> new AlgoritmoLRUComBuffer(frames, universo);
+            default -> throw new IllegalArgumentException("Algoritmo desconhecido: " + nome);
+        };
+    }
+
+    /**
+     * Cliente k repete referencias[k·n/clientes .. (k+1)·n/clientes). Todos partem juntos
+     * (latch) e o tempo vai da largada até o último terminar.
+     */
+    static ResultadoReplay replay(String workload, int[] referencias, AlgoritmoSubstituicaoPages cache,
+                                  String algoritmo, int clientes, int latenciaUs) throws Exception {
+        long latenciaNanos = latenciaUs * 1000L;
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Cliente>> futuros = new ArrayList<>(clientes);
+        long inicio;
+        long fim;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int k = 0; k < clientes; k++) {
+                int de  = (int) ((long) referencias.length * k / clientes);
+                int ate = (int) ((long) referencias.length * (k + 1) / clientes);
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return repetir(cache, referencias, de, ate, latenciaNanos);
+                }));
+            }
+            inicio = System.nanoTime();
+            largada.countDown();
+            for (Future<Cliente> futuro : futuros) futuro.get();
+            fim = System.nanoTime();
+        }
+
+        HistogramaLatencia latencias = new HistogramaLatencia();
+        long hits = 0;
+        long faults = 0;
+        for (Future<Cliente> futuro : futuros) {
+            Cliente cliente = futuro.get();
+            latencias.somar(cliente.latencias);
+            hits   += cliente.hits;
+            faults += cliente.faults;
+        }
+        return new ResultadoReplay(workload, algoritmo, cache.getCapacity(), clientes, latenciaUs,
+                hits, faults, fim - inicio, latencias);
+    }
+
+    private static Cliente repetir(AlgoritmoSubstituicaoPages cache, int[] referencias, int de, int ate, long latenciaNanos) {
+        Cliente cliente = new Cliente();
+        for (int i = de; i < ate; i++) {
+            long t0 = System.nanoTime();
+            if (cache.accesso(referencias[i])) {
+                cliente.faults++;
+                // Estaciona fora de qualquer trava: a virtual thread libera a carrier
+                if (latenciaNanos > 0) LockSupport.parkNanos(latenciaNanos);
+            } else {
+                cliente.hits++;
+            }
+            cliente.latencias.registrar(System.nanoTime() - t0);
+        }
+        return cliente;
+    }
+
+    static int[] inteiros(String propriedade, String padrao) {
+        String[] partes = System.getProperty(propriedade, padrao).split(",");
+        int[] valores = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) valores[i] = Integer.parseInt(partes[i].trim());
+        return valores;
+    }
+
+    //Relatorio CSV
+
+    private static void gerarCsv(List<ResultadoReplay> resultados) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/replay_multicliente.csv"));
+        bw.write("workload,algorithm,frames,clients,fault_latency_us,accesses,hits,page_faults,fault_rate_pct,"
+                + "elapsed_ms,hits_per_sec,p50_ns,p99_ns,p999_ns,max_ns\n");
+        for (ResultadoReplay r : resultados) {
+            bw.write(r.workload + "," +
+                     r.algoritmo + "," +
+                     r.frames + "," +
+                     r.clientes + "," +
+                     r.latenciaUs + "," +
+                     (r.hits + r.faults) + "," +
+                     r.hits + "," +
+                     r.faults + "," +
+                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "," +
+                     String.format("%.3f", r.nanos / 1e6).replace(",", ".") + "," +
+                     String.format("%.0f", r.getHitsPorSegundo()) + "," +
+                     r.latencias.percentil(0.50) + "," +
+                     r.latencias.percentil(0.99) + "," +
+                     r.latencias.percentil(0.999) + "," +
+                     r.latencias.getMaximo() + "\n");
+        }
+        bw.close();
+    }
+}
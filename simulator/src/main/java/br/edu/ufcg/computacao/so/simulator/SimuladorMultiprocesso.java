@@ -0,0 +1,321 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Temporizador;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Vários processos disputando um pool de frames. Os traces são intercalados por fatias
+ * (TraceIntercalado) e o mesmo algoritmo roda em três modos:
+ *   - global             : uma instância com o pool inteiro; um processo pode tomar frames de outro
+ *   - local_fixed        : uma instância por processo, pool dividido em partes iguais
+ *   - local_proportional : uma instância por processo, parte proporcional ao espaço de endereçamento
+ *
+ * Para cada escalonamento, modo, algoritmo e pool, os processos entram um a um (1..N) e é
+ * medido o quanto os faults crescem em relação a cada processo rodando sozinho com o pool
+ * inteiro. O início do thrashing é o menor número de processos em que os faults passam de
+ * FATOR_THRASHING vezes essa referência e a taxa de faults passa de TAXA_MINIMA_THRASHING.
+ *
+ * Uso: SimuladorMultiprocesso [workload[:peso] ...]   (sem argumentos usa PROCESSOS_PADRAO)
+ * O peso só afeta o escalonamento ponderado: o quantum do processo é QUANTUM x peso.
+ */
+public class SimuladorMultiprocesso {
+
+    private static final String ROUND_ROBIN = "round_robin";
+    private static final String PONDERADO   = "weighted";
+
+    private static final String GLOBAL             = "global";
+    private static final String LOCAL_FIXO         = "local_fixed";
+    private static final String LOCAL_PROPORCIONAL = "local_proportional";
+
+    private static final List<String> ESCALONAMENTOS = List.of(ROUND_ROBIN, PONDERADO);
+    private static final List<String> MODOS          = List.of(GLOBAL, LOCAL_FIXO, LOCAL_PROPORCIONAL);
+
+    // Referencias por fatia no round-robin (e por unidade de peso no ponderado)
+    private static final int QUANTUM = Integer.getInteger("simulator.quantum", 100);
+    private static final double FATOR_THRASHING = Double.parseDouble(System.getProperty("simulator.thrashing", "2.0"));
+    // Abaixo desta taxa de faults (%) nao e thrashing, mesmo que tenha multiplicado
+    private static final double TAXA_MINIMA_THRASHING = Double.parseDouble(System.getProperty("simulator.thrashingTaxa", "5.0"));
+
+    private static final int[] POOLS = {64, 256, 1024};
+    // O Otimo fica de fora: no modo local cada instancia precisaria do futuro so do seu processo
+    private static final List<String> ALGORITMOS = List.of("FIFO", "LRU", "Clock", "ARC", "LIRS", "WTinyLFU");
+
+    // Localidade com peso 2, fases com peso 1; entram nessa ordem
+    private static final List<String> PROCESSOS_PADRAO = List.of(
+            "locality_md_tight_hot90:2",
+            "phases_md_tight_p2:1",
+            "locality_md_medium_hot70:2",
+            "phases_md_medium_p4:1",
+            "locality_md_wide_ws40:2",
+            "phases_md_wide_p8:1",
+            "locality_md_huge_ws10:2",
+            "phases_md_huge_p4:1");
+
+    static class ResultadoMultiprocesso {
+        String escalonamento;
+        String modo;
+        String algoritmo;
+        int frames;
+        int processos;
+        int[] framesAlocados;
+        long[] pageFaults;
+        long[] acessos;
+
+        ResultadoMultiprocesso(String escalonamento, String modo, String algoritmo, int frames,
+                               int[] framesAlocados, long[] pageFaults, long[] acessos) {
+            this.escalonamento  = escalonamento;
+            this.modo           = modo;
+            this.algoritmo      = algoritmo;
+            this.frames         = frames;
+            this.processos      = pageFaults.length;
+            this.framesAlocados = framesAlocados;
+            this.pageFaults     = pageFaults;
+            this.acessos        = acessos;
+        }
+
+        long totalFaults() {
+            return Arrays.stream(pageFaults).sum();
+        }
+
+        long totalAcessos() {
+            return Arrays.stream(acessos).sum();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> especificacoes = args.length > 0 ? List.of(args) : PROCESSOS_PADRAO;
+        List<String> nomes = new ArrayList<>();
+        List<Integer> pesos = new ArrayList<>();
+        List<int[]> traces = new ArrayList<>();
+        for (String especificacao : especificacoes) {
+            String[] partes = especificacao.split(":");
+            int peso = partes.length > 1 ? Integer.parseInt(partes[1]) : 1;
+            if (peso < 1) throw new IllegalArgumentException("Peso < 1 em " + especificacao);
+            nomes.add(partes[0]);
+            pesos.add(peso);
+            traces.add(LeitorTrace.carregar(LeitorTrace.resolver(Path.of("data/workloads", partes[0]))));
+        }
+
+        ExecutorGrade executor = ExecutorGrade.padrao();
+        System.out.println("Simulando " + nomes.size() + " processos (quantum " + QUANTUM
+                + ", paralelismo " + executor.getParalelismo() + ")...\n");
+
+        // Referencia: cada processo sozinho com o pool inteiro
+        List<Callable<Long>> tarefasSozinho = new ArrayList<>();
+        for (String algoritmo : ALGORITMOS) {
+            for (int frames : POOLS) {
+                for (int i = 0; i < traces.size(); i++) {
+                    int[] trace = traces.get(i);
+                    String nome = nomes.get(i);
+                    tarefasSozinho.add(() -> simularSozinho(algoritmo, frames, nome, trace));
+                }
+            }
+        }
+        List<Long> listaSozinho = executor.executar(tarefasSozinho, i -> traces.get(i % traces.size()).length, "sozinho");
+        Map<String, long[]> faultsSozinho = new LinkedHashMap<>(); // algoritmo/frames → faults por processo
+        int k = 0;
+        for (String algoritmo : ALGORITMOS) {
+            for (int frames : POOLS) {
+                long[] faults = new long[traces.size()];
+                for (int i = 0; i < faults.length; i++) faults[i] = listaSozinho.get(k++);
+                faultsSozinho.put(algoritmo + "/" + frames, faults);
+            }
+        }
+
+        // Grade escalonamento x processos x modo x algoritmo x pool
+        List<Callable<ResultadoMultiprocesso>> tarefas = new ArrayList<>();
+        List<Long> custos = new ArrayList<>();
+        for (String escalonamento : ESCALONAMENTOS) {
+            for (int n = 1; n <= traces.size(); n++) {
+                int[] quanta = new int[n];
+                for (int i = 0; i < n; i++) quanta[i] = escalonamento.equals(PONDERADO) ? QUANTUM * pesos.get(i) : QUANTUM;
+                TraceIntercalado trace = TraceIntercalado.intercalar(traces.subList(0, n), quanta);
+                for (String modo : MODOS) {
+                    for (String algoritmo : ALGORITMOS) {
+                        for (int frames : POOLS) {
+                            if (!modo.equals(GLOBAL) && frames < n) continue; // menos de um frame por processo
+                            tarefas.add(() -> simular(trace, escalonamento, modo, algoritmo, frames));
+                            custos.add((long) trace.referencias.length);
+                        }
+                    }
+                }
+            }
+        }
+        List<ResultadoMultiprocesso> resultados = executor.executar(tarefas, custos::get, "multiprocesso");
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+
+        System.out.println("\nGerando relatorios...");
+        gerarResultadosCsv(resultados, nomes, pesos, faultsSozinho);
+        gerarThrashingCsv(resultados, faultsSozinho);
+        System.out.println("Relatorios gerados na pasta results/!");
+    }
+
+    private static long simularSozinho(String algoritmo, int frames, String nome, int[] trace) {
+        AlgoritmoSubstituicaoPages algo = Simulator.criarAlgoritmo(algoritmo, frames, nome, IndiceResidencia.universo(trace));
+        return Simulator.reproduzir(algo, Simulator.temporizadorPara(algo), trace, 0, trace.length);
+    }
+
+    static ResultadoMultiprocesso simular(TraceIntercalado trace, String escalonamento, String modo,
+                                          String algoritmo, int frames) {
+        int n = trace.processos();
+        long[] faults = new long[n];
+        int[] alocados;
+
+        if (modo.equals(GLOBAL)) {
+            // Um unico algoritmo ve as paginas de todos os processos
+            AlgoritmoSubstituicaoPages algo = Simulator.criarAlgoritmo(algoritmo, frames, "multiprocesso_" + n, trace.universo);
+            Temporizador temporizador = Simulator.temporizadorPara(algo);
+            for (int f = 0; f < trace.fatias(); f++) {
+                faults[trace.fatiaProcesso[f]] += Simulator.reproduzir(algo, temporizador, trace.referencias,
+                        trace.inicioFatia[f], trace.inicioFatia[f + 1]);
+            }
+            alocados = new int[n];
+            Arrays.fill(alocados, frames);
+        } else {
+            alocados = modo.equals(LOCAL_FIXO) ? dividirIgual(frames, n) : dividirProporcional(frames, trace.universos);
+            AlgoritmoSubstituicaoPages[] algos = new AlgoritmoSubstituicaoPages[n];
+            Temporizador[] temporizadores = new Temporizador[n];
+            for (int i = 0; i < n; i++) {
+                algos[i] = Simulator.criarAlgoritmo(algoritmo, alocados[i], "multiprocesso_" + n + "_" + i, trace.universo);
+                temporizadores[i] = Simulator.temporizadorPara(algos[i]);
+            }
+            for (int f = 0; f < trace.fatias(); f++) {
+                int p = trace.fatiaProcesso[f];
+                faults[p] += Simulator.reproduzir(algos[p], temporizadores[p], trace.referencias,
+                        trace.inicioFatia[f], trace.inicioFatia[f + 1]);
+            }
+        }
+        return new ResultadoMultiprocesso(escalonamento, modo, algoritmo, frames, alocados, faults, trace.acessos.clone());
+    }
+
+    // Partes iguais; o resto vai para os primeiros processos
+    static int[] dividirIgual(int frames, int n) {
+        int[] alocados = new int[n];
+        for (int i = 0; i < n; i++) alocados[i] = frames / n + (i < frames % n ? 1 : 0);
+        return alocados;
+    }
+
+    // a_i = frames * s_i / S, pelo menos 1; o arredondamento e acertado nos maiores processos
+    static int[] dividirProporcional(int frames, int[] tamanhos) {
+        int n = tamanhos.length;
+        long soma = 0;
+        for (int t : tamanhos) soma += t;
+        int[] alocados = new int[n];
+        int sobra = frames;
+        for (int i = 0; i < n; i++) {
+            alocados[i] = soma == 0 ? 1 : (int) Math.max(1, frames * (long) tamanhos[i] / soma);
+            sobra -= alocados[i];
+        }
+
+        Integer[] ordem = new Integer[n];
+        for (int i = 0; i < n; i++) ordem[i] = i;
+        Arrays.sort(ordem, Comparator.comparingInt((Integer i) -> tamanhos[i]).reversed());
+        for (int j = 0; sobra != 0; j = (j + 1) % n) {
+            int i = ordem[j];
+            if (sobra > 0) {
+                alocados[i]++;
+                sobra--;
+            } else if (alocados[i] > 1) {
+                alocados[i]--;
+                sobra++;
+            }
+        }
+        return alocados;
+    }
+
+    private static double taxa(long faults, long acessos) {
+        return acessos == 0 ? 0.0 : (100.0 * faults) / acessos;
+    }
+
+    private static String formatar(double taxa) {
+        return String.format("%.4f", taxa).replace(",", ".");
+    }
+
+    //Uma linha por processo e uma linha "all" com o total de cada execucao
+
+    private static void gerarResultadosCsv(List<ResultadoMultiprocesso> resultados, List<String> nomes,
+                                           List<Integer> pesos, Map<String, long[]> faultsSozinho) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/multiprocess_results.csv"));
+        bw.write("scheduling,mode,algorithm,frames,processes,process,workload,weight,allocated_frames,"
+                + "page_faults,total_accesses,fault_rate_pct,solo_fault_rate_pct\n");
+
+        for (ResultadoMultiprocesso r : resultados) {
+            long[] sozinho = faultsSozinho.get(r.algoritmo + "/" + r.frames);
+            String prefixo = r.escalonamento + "," + r.modo + "," + r.algoritmo + "," + r.frames + "," + r.processos + ",";
+            long somaSozinho = 0;
+            for (int i = 0; i < r.processos; i++) {
+                somaSozinho += sozinho[i];
+                bw.write(prefixo +
+                         i + "," +
+                         nomes.get(i) + "," +
+                         pesos.get(i) + "," +
+                         r.framesAlocados[i] + "," +
+                         r.pageFaults[i] + "," +
+                         r.acessos[i] + "," +
+                         formatar(taxa(r.pageFaults[i], r.acessos[i])) + "," +
+                         formatar(taxa(sozinho[i], r.acessos[i])) + "\n");
+            }
+            bw.write(prefixo + "all,-,-," +
+                     r.frames + "," +
+                     r.totalFaults() + "," +
+                     r.totalAcessos() + "," +
+                     formatar(taxa(r.totalFaults(), r.totalAcessos())) + "," +
+                     formatar(taxa(somaSozinho, r.totalAcessos())) + "\n");
+        }
+        bw.close();
+    }
+
+    //Inicio do thrashing: menor numero de processos com faults > FATOR_THRASHING x faults sozinho
+    //e taxa >= TAXA_MINIMA_THRASHING
+
+    private static void gerarThrashingCsv(List<ResultadoMultiprocesso> resultados,
+                                          Map<String, long[]> faultsSozinho) throws Exception {
+        // Os resultados ja vem em ordem crescente de processos dentro de cada grupo
+        Map<String, List<ResultadoMultiprocesso>> grupos = new LinkedHashMap<>();
+        for (ResultadoMultiprocesso r : resultados) {
+            grupos.computeIfAbsent(r.escalonamento + "," + r.modo + "," + r.algoritmo + "," + r.frames,
+                    chave -> new ArrayList<>()).add(r);
+        }
+
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/multiprocess_thrashing.csv"));
+        bw.write("scheduling,mode,algorithm,frames,max_processes,thrashing_onset_processes,"
+                + "fault_rate_pct_at_onset,solo_fault_rate_pct_at_onset\n");
+
+        for (Map.Entry<String, List<ResultadoMultiprocesso>> grupo : grupos.entrySet()) {
+            List<ResultadoMultiprocesso> lista = grupo.getValue();
+            String inicio = "", taxaInicio = "", taxaSozinho = "";
+            for (ResultadoMultiprocesso r : lista) {
+                long[] sozinho = faultsSozinho.get(r.algoritmo + "/" + r.frames);
+                long somaSozinho = 0;
+                for (int i = 0; i < r.processos; i++) somaSozinho += sozinho[i];
+                double taxaTotal = taxa(r.totalFaults(), r.totalAcessos());
+                if (r.totalFaults() > FATOR_THRASHING * somaSozinho && taxaTotal >= TAXA_MINIMA_THRASHING) {
+                    inicio      = String.valueOf(r.processos);
+                    taxaInicio  = formatar(taxaTotal);
+                    taxaSozinho = formatar(taxa(somaSozinho, r.totalAcessos()));
+                    break;
+                }
+            }
+            bw.write(grupo.getKey() + "," +
+                     lista.get(lista.size() - 1).processos + "," +
+                     inicio + "," + taxaInicio + "," + taxaSozinho + "\n");
+        }
+        bw.close();
+    }
+}
@@ -0,0 +1,155 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.PaginasSujas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.prefetch.LeituraAntecipada;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Cada algoritmo roda por baixo da LeituraAntecipada, com uma sombra (a mesma política
+ * sem leitura antecipada) recebendo as mesmas referências na mesma passada. Compara os
+ * faults de demanda e mostra o preço: quantas páginas foram lidas a mais, quantas
+ * serviram (acertos), quantas saíram sem uso e quantos faults a leitura antecipada
+ * causou ao despejar páginas que a sombra ainda tinha (poluição).
+ *
+ * A unidade de trabalho extra é uma leitura antecipada: faults_removed_per_prefetch diz
+ * quantos faults cada uma economizou (1 = nenhuma desperdiçada, negativo = piorou).
+ *
+ * Uso: SimuladorPrefetch [workload ...]   (sem argumentos usa WORKLOADS_PADRAO)
+ *   -Dsimulator.frames=16,64,...
+ */
+public class SimuladorPrefetch {
+
+    // O Otimo fica de fora: o futuro dele nao conta com as paginas antecipadas
+    private static final List<String> ALGORITMOS = List.of("FIFO", "LRU", "LFU", "Clock", "ClockNRU", "Random", "ARC", "LIRS",
+            "ClockPro", "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock");
+    // Os sequenciais, onde a leitura antecipada deve ajudar, e um de cada outro tipo para medir o desperdicio
+    private static final List<String> WORKLOADS_PADRAO = List.of("sequential_md_medium", "sequential_lg_wide", "sequential_xl_wide",
+            "locality_lg_medium_hot70", "phases_lg_wide_p8", "random_lg_wide");
+
+    private static final int[] FRAMES = ReplayMultiCliente.inteiros("simulator.frames", "16,64,128");
+
+    static class ResultadoPrefetch {
+        String workload;
+        String algoritmo;
+        int frames;
+        long acessos;
+        long faultsBase;
+        long faults;
+        long antecipadas;
+        long acertos;
+        long desperdicadas;
+        long poluicao;
+
+        double getTaxaFalhaBase() {
+            return acessos == 0 ? 0.0 : (100.0 * faultsBase) / acessos;
+        }
+
+        double getTaxaFalha() {
+            return acessos == 0 ? 0.0 : (100.0 * faults) / acessos;
+        }
+
+        // Fração dos faults originais que a leitura antecipada eliminou
+        double getReducao() {
+            return faultsBase == 0 ? 0.0 : (100.0 * (faultsBase - faults)) / faultsBase;
+        }
+
+        double getPrecisao() {
+            return antecipadas == 0 ? 0.0 : (100.0 * acertos) / antecipadas;
+        }
+
+        double getFaultsPorAntecipada() {
+            return antecipadas == 0 ? 0.0 : (double) (faultsBase - faults) / antecipadas;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> workloads = args.length > 0 ? List.of(args) : WORKLOADS_PADRAO;
+        ExecutorGrade executor = ExecutorGrade.padrao();
+
+        System.out.println("Leitura antecipada: " + workloads.size() + " workloads, frames " + Arrays.toString(FRAMES) + "...\n");
+
+        List<ResultadoPrefetch> resultados = new ArrayList<>();
+        for (String workload : workloads) {
+            LeitorTrace.Carregado trace = LeitorTrace.carregarComEscritas(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+            int universo = IndiceResidencia.universo(trace.referencias);
+
+            List<Callable<ResultadoPrefetch>> tarefas = new ArrayList<>();
+            for (int frames : FRAMES)
+                for (String algoritmo : ALGORITMOS)
+                    tarefas.add(() -> simular(workload, trace, universo, algoritmo, frames));
+
+            List<ResultadoPrefetch> doWorkload = executor.executar(tarefas, i -> trace.referencias.length, "prefetch");
+            for (ResultadoPrefetch r : doWorkload) {
+                System.out.printf("  %-26s %-9s frames=%-5d faults %6.2f%% -> %6.2f%%  antecipadas %,d  precisao %.1f%%  poluicao %,d%n",
+                        r.workload, r.algoritmo, r.frames, r.getTaxaFalhaBase(), r.getTaxaFalha(),
+                        r.antecipadas, r.getPrecisao(), r.poluicao);
+            }
+            resultados.addAll(doWorkload);
+        }
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+        gerarCsv(resultados);
+        System.out.println("\nResultados em results/prefetch_results.csv");
+    }
+
+    static ResultadoPrefetch simular(String workload, LeitorTrace.Carregado trace, int universo, String algoritmo, int frames) {
+        int[] referencias = trace.referencias;
+        LeituraAntecipada antecipada = new LeituraAntecipada(Simulator.criarAlgoritmo(algoritmo, frames, workload, universo),
+                Simulator.criarAlgoritmo(algoritmo, frames, workload, universo), universo);
+        // Passa pelas PaginasSujas só para as escritas chegarem a quem as usa (ClockNRU)
+        new PaginasSujas(universo).accessoLote(antecipada, Simulator.temporizadorPara(antecipada),
+                referencias, trace.escritas, 0, referencias.length);
+
+        ResultadoPrefetch r = new ResultadoPrefetch();
+        r.workload      = workload;
+        r.algoritmo     = algoritmo;
+        r.frames        = frames;
+        r.acessos       = referencias.length;
+        r.faultsBase    = antecipada.getSombra().getPageFaults();
+        r.faults        = antecipada.getPageFaults();
+        r.antecipadas   = antecipada.getAntecipadas();
+        r.acertos       = antecipada.getAcertos();
+        r.desperdicadas = antecipada.getDesperdicadas();
+        r.poluicao      = antecipada.getPoluicao();
+        return r;
+    }
+
+    //Relatorio CSV
+
+    private static void gerarCsv(List<ResultadoPrefetch> resultados) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/prefetch_results.csv"));
+        bw.write("workload,algorithm,frames,accesses,baseline_faults,page_faults,baseline_fault_rate_pct,fault_rate_pct,"
+                + "faults_removed_pct,prefetches,prefetch_hits,wasted_prefetches,pollution_faults,prefetch_accuracy_pct,"
+                + "total_reads,faults_removed_per_prefetch\n");
+        for (ResultadoPrefetch r : resultados) {
+            bw.write(r.workload + "," +
+                     r.algoritmo + "," +
+                     r.frames + "," +
+                     r.acessos + "," +
+                     r.faultsBase + "," +
+                     r.faults + "," +
+                     String.format("%.4f", r.getTaxaFalhaBase()).replace(",", ".") + "," +
+                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "," +
+                     String.format("%.2f", r.getReducao()).replace(",", ".") + "," +
+                     r.antecipadas + "," +
+                     r.acertos + "," +
+                     r.desperdicadas + "," +
+                     r.poluicao + "," +
+                     String.format("%.2f", r.getPrecisao()).replace(",", ".") + "," +
+                     (r.faults + r.antecipadas) + "," +
+                     String.format("%.4f", r.getFaultsPorAntecipada()).replace(",", ".") + "\n");
+        }
+        bw.close();
+    }
+}
@@ -0,0 +1,401 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.PaginasSujas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Simulação por eventos discretos com tempo simulado: a taxa de faults vira tempo de
+ * execução. Cada processo repete a sua fatia contígua do trace contra um cache
+ * compartilhado e o relógio avança por referência:
+ *   - hit   : HIT_NS de CPU
+ *   - fault : a leitura da página vai para o dispositivo e o processo bloqueia até ela
+ *             terminar (mais HIT_NS para refazer o acesso)
+ *   - write-back : o despejo de uma página suja gera uma gravação assíncrona no mesmo
+ *             dispositivo, submetida antes da leitura que a causou
+ *
+ * O dispositivo tem CANAIS requisições em serviço ao mesmo tempo e uma fila FIFO de até
+ * FILA_IO à espera; com a fila cheia o processo que faltou fica parado até abrir vaga.
+ * Um hit numa página cuja leitura ainda não terminou espera essa leitura.
+ *
+ * Os eventos (processo pronto, canal terminou) ficam numa FilaEventos de arrays
+ * primitivos. Hits seguidos não passam pela fila: o processo continua enquanto o seu
+ * relógio está antes do próximo evento, então traces de milhões de referências com
+ * poucos faults custam quase o mesmo que o replay sem tempo.
+ *
+ * Reporta o instante de conclusão (último processo ou última gravação), a utilização do
+ * dispositivo e a espera na fila por workload, algoritmo, frames, processos e canais.
+ *
+ * Uso: SimuladorTempo [workload ...]   (sem argumentos usa WORKLOADS_PADRAO)
+ *   -Dsimulator.processos=1,4,...  -Dsimulator.frames=64,...  -Dsimulator.canais=1,4,...
+ *   -Dsimulator.filaIo=32  -Dsimulator.hitNs=100  -Dsimulator.leituraUs=100  -Dsimulator.escritaUs=200
+ */
+public class SimuladorTempo {
+
+    // O Otimo fica de fora: com vários processos a ordem das referências depende do tempo
+    private static final List<String> ALGORITMOS = List.of("FIFO", "LRU", "LFU", "Clock", "ClockNRU", "Random", "ARC", "LIRS",
+            "ClockPro", "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock");
+    private static final List<String> WORKLOADS_PADRAO = List.of("locality_lg_medium_hot70", "phases_xl_wide_p8", "random_xl_wide");
+
+    private static final int[] PROCESSOS = ReplayMultiCliente.inteiros("simulator.processos", "1,4,16,64");
+    private static final int[] FRAMES    = ReplayMultiCliente.inteiros("simulator.frames", "64");
+    private static final int[] CANAIS    = ReplayMultiCliente.inteiros("simulator.canais", "1,4");
+
+    private static final int  FILA_IO      = Integer.getInteger("simulator.filaIo", 32);
+    private static final long HIT_NS       = Long.getLong("simulator.hitNs", 100);
+    private static final long LEITURA_NS   = Long.getLong("simulator.leituraUs", 100) * 1000;
+    private static final long ESCRITA_NS   = Long.getLong("simulator.escritaUs", 200) * 1000;
+    private static final int  PERIODO_TICK = Integer.getInteger("simulator.tick", 100);
+
+    // Tipo do evento no bit baixo do dado da FilaEventos; o id vai nos outros bits
+    private static final int PROCESSO = 0;
+    private static final int CANAL    = 1;
+
+    private static final int GRAVACAO = -1; // processo de uma requisição de write-back
+
+    static class ResultadoTempo {
+        String workload;
+        String algoritmo;
+        int frames;
+        int processos;
+        int canais;
+        long acessos;
+        long faults;
+        long writeBacks;
+        long conclusaoNs;
+        long ocupadoNs;        // soma dos tempos de serviço de todas as requisições
+        long requisicoes;
+        long somaEsperaFilaNs;
+        HistogramaLatencia esperaFila = new HistogramaLatencia();
+        long somaLatenciaFaultNs;
+        long bloqueioNs;       // tempo de processos parados com a fila cheia
+
+        double getTaxaFalha() {
+            return acessos == 0 ? 0.0 : (100.0 * faults) / acessos;
+        }
+
+        double getReferenciasPorSegundo() {
+            return conclusaoNs == 0 ? 0.0 : acessos * 1e9 / conclusaoNs;
+        }
+
+        double getUtilizacao() {
+            return conclusaoNs == 0 ? 0.0 : (100.0 * ocupadoNs) / ((double) canais * conclusaoNs);
+        }
+
+        double getEsperaMediaUs() {
+            return requisicoes == 0 ? 0.0 : somaEsperaFilaNs / 1e3 / requisicoes;
+        }
+
+        double getLatenciaFaultMediaUs() {
+            return faults == 0 ? 0.0 : somaLatenciaFaultNs / 1e3 / faults;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> workloads = args.length > 0 ? List.of(args) : WORKLOADS_PADRAO;
+        ExecutorGrade executor = ExecutorGrade.padrao();
+
+        System.out.println("Simulacao com tempo: " + workloads.size() + " workloads, processos "
+                + Arrays.toString(PROCESSOS) + ", canais " + Arrays.toString(CANAIS) + "...\n");
+
+        List<ResultadoTempo> resultados = new ArrayList<>();
+        for (String workload : workloads) {
+            LeitorTrace.Carregado trace = LeitorTrace.carregarComEscritas(LeitorTrace.resolver(Path.of("data/workloads", workload)));
+            int universo = IndiceResidencia.universo(trace.referencias);
+
+            List<Callable<ResultadoTempo>> tarefas = new ArrayList<>();
+            for (int frames : FRAMES)
+                for (String algoritmo : ALGORITMOS)
+                    for (int processos : PROCESSOS)
+                        for (int canais : CANAIS)
+                            tarefas.add(() -> simular(workload, trace, universo, algoritmo, frames, processos, canais));
+
+            List<ResultadoTempo> doWorkload = executor.executar(tarefas, i -> trace.referencias.length, "tempo");
+            for (ResultadoTempo r : doWorkload) {
+                System.out.printf("  %-26s %-9s frames=%-5d processos=%-4d canais=%-3d faults %.2f%%  %,.3f ms  disco %.1f%%  fila %.1f us%n",
+                        r.workload, r.algoritmo, r.frames, r.processos, r.canais, r.getTaxaFalha(),
+                        r.conclusaoNs / 1e6, r.getUtilizacao(), r.getEsperaMediaUs());
+            }
+            resultados.addAll(doWorkload);
+        }
+
+        File pastaResults = new File("results");
+        if (!pastaResults.exists()) pastaResults.mkdir();
+        gerarCsv(resultados);
+        System.out.println("\nResultados em results/simulated_time.csv");
+    }
+
+    static ResultadoTempo simular(String workload, LeitorTrace.Carregado trace, int universo, String algoritmo,
+                                  int frames, int processos, int canais) {
+        AlgoritmoComDespejo algo = Simulator.criarAlgoritmo(algoritmo, frames, workload, universo);
+        Execucao execucao = new Execucao(algo, trace, universo, processos, canais);
+        execucao.executar();
+
+        ResultadoTempo r = execucao.resultado;
+        r.workload  = workload;
+        r.algoritmo = algoritmo;
+        r.frames    = frames;
+        r.processos = processos;
+        r.canais    = canais;
+        r.acessos   = trace.referencias.length;
+        r.faults    = algo.getPageFaults();
+        return r;
+    }
+
+    /**
+     * Estado de uma simulação. Processo k cobre referencias[k·n/processos .. (k+1)·n/processos)
+     * e todos começam no instante 0.
+     */
+    private static final class Execucao {
+
+        final AlgoritmoComDespejo algo;
+        final AlgoritmoComTick comTick; // null se o algoritmo não usa o relógio
+        int desdeTick;
+        final PaginasSujas sujas;
+        final int[] refs;
+        final long[] escritas;
+        final FilaEventos eventos;
+        final ResultadoTempo resultado = new ResultadoTempo();
+
+        // Processos
+        final int[]     cursor;             // próxima referência
+        final int[]     fim;
+        final int[]     paginaLida;         // página do fault em andamento
+        final long[]    inicioFault;
+        final int[]     gravacoesPendentes; // write-backs ainda não submetidos
+        final boolean[] leituraPendente;    // leitura ainda não submetida
+        final boolean[] bloqueado;
+        final long[]    inicioBloqueio;
+        final int[]     cabecaEspera;       // processos esperando a leitura do processo k
+        final int[]     proximaEspera;
+        final int[]     leituraDe;          // página → processo que está lendo, -1 = nenhum
+        long ultimoFim;
+
+        // Dispositivo: canais livres (pilha), fila FIFO circular e processos parados (FIFO circular)
+        final int[]  canalProcesso;
+        final int[]  livres;
+        int nLivres;
+        final int[]  filaProcesso;
+        final long[] filaChegada;
+        int filaInicio;
+        int filaTamanho;
+        final int[]  parados;
+        int paradosInicio;
+        int paradosTamanho;
+
+        Execucao(AlgoritmoComDespejo algo, LeitorTrace.Carregado trace, int universo, int processos, int canais) {
+            this.algo     = algo;
+            this.comTick  = algo instanceof AlgoritmoComTick t ? t : null;
+            this.sujas    = new PaginasSujas(universo);
+            this.refs     = trace.referencias;
+            this.escritas = trace.escritas;
+            this.eventos  = new FilaEventos(processos + canais);
+            algo.setOuvinteDespejo(sujas);
+
+            cursor             = new int[processos];
+            fim                = new int[processos];
+            paginaLida         = new int[processos];
+            inicioFault        = new long[processos];
+            gravacoesPendentes = new int[processos];
+            leituraPendente    = new boolean[processos];
+            bloqueado          = new boolean[processos];
+            inicioBloqueio     = new long[processos];
+            cabecaEspera       = new int[processos];
+            proximaEspera      = new int[processos];
+            leituraDe          = new int[universo];
+            Arrays.fill(cabecaEspera, -1);
+            Arrays.fill(leituraDe, -1);
+            for (int k = 0; k < processos; k++) {
+                cursor[k] = (int) ((long) refs.length * k / processos);
+                fim[k]    = (int) ((long) refs.length * (k + 1) / processos);
+            }
+
+            canalProcesso = new int[canais];
+            livres        = new int[canais];
+            for (int c = canais - 1; c >= 0; c--) livres[nLivres++] = c;
+            filaProcesso  = new int[Math.max(1, FILA_IO)];
+            filaChegada   = new long[Math.max(1, FILA_IO)];
+            parados       = new int[processos];
+        }
+
+        void executar() {
+            for (int k = 0; k < cursor.length; k++) {
+                if (cursor[k] < fim[k]) eventos.inserir(0, k << 1 | PROCESSO);
+            }
+            long agora = 0;
+            while (!eventos.vazia()) {
+                agora = eventos.tempoTopo();
+                int dado = eventos.remover();
+                if ((dado & 1) == CANAL) concluir(dado >>> 1, agora);
+                else rodar(dado >>> 1, agora);
+            }
+            resultado.conclusaoNs = Math.max(agora, ultimoFim);
+            resultado.writeBacks  = sujas.getWriteBacks();
+        }
+
+        // Roda o processo k a partir do instante t até ele bloquear, acabar ou passar do próximo evento
+        private void rodar(int k, long t) {
+            int i = cursor[k];
+            int ate = fim[k];
+            while (i < ate) {
+                int page = refs[i];
+                long writeBacksAntes = sujas.getWriteBacks();
+                boolean fault = sujas.accesso(algo, page, (escritas[i >>> 6] & (1L << i)) != 0);
+                if (comTick != null && ++desdeTick == PERIODO_TICK) {
+                    comTick.tick();
+                    desdeTick = 0;
+                }
+                i++;
+                cursor[k] = i;
+
+                if (fault) {
+                    paginaLida[k]         = page;
+                    inicioFault[k]        = t;
+                    leituraDe[page]       = k;
+                    gravacoesPendentes[k] = (int) (sujas.getWriteBacks() - writeBacksAntes);
+                    leituraPendente[k]    = true;
+                    submeter(k, t);
+                    return;
+                }
+                int dono = leituraDe[page];
+                if (dono >= 0) {
+                    // Residente para o algoritmo, mas ainda chegando do disco
+                    proximaEspera[k]   = cabecaEspera[dono];
+                    cabecaEspera[dono] = k;
+                    return;
+                }
+                t += HIT_NS;
+                if (i < ate && t >= eventos.tempoTopo()) {
+                    eventos.inserir(t, k << 1 | PROCESSO);
+                    return;
+                }
+            }
+            if (t > ultimoFim) ultimoFim = t;
+        }
+
+        // Submete os write-backs e depois a leitura do processo k; false se a fila encheu no meio
+        private boolean submeter(int k, long t) {
+            while (gravacoesPendentes[k] > 0) {
+                if (!enfileirar(GRAVACAO, t)) return parar(k, t);
+                gravacoesPendentes[k]--;
+            }
+            if (leituraPendente[k]) {
+                if (!enfileirar(k, t)) return parar(k, t);
+                leituraPendente[k] = false;
+            }
+            return true;
+        }
+
+        private boolean parar(int k, long t) {
+            if (!bloqueado[k]) {
+                bloqueado[k] = true;
+                inicioBloqueio[k] = t;
+                parados[(paradosInicio + paradosTamanho++) % parados.length] = k;
+            }
+            return false;
+        }
+
+        private boolean enfileirar(int processo, long t) {
+            if (nLivres > 0) {
+                iniciar(livres[--nLivres], processo, t, t);
+                return true;
+            }
+            if (filaTamanho < FILA_IO) {
+                int pos = (filaInicio + filaTamanho++) % filaProcesso.length;
+                filaProcesso[pos] = processo;
+                filaChegada[pos]  = t;
+                return true;
+            }
+            return false;
+        }
+
+        private void iniciar(int canal, int processo, long t, long chegada) {
+            long espera = t - chegada;
+            long servico = processo == GRAVACAO ? ESCRITA_NS : LEITURA_NS;
+            resultado.requisicoes++;
+            resultado.somaEsperaFilaNs += espera;
+            resultado.esperaFila.registrar(espera);
+            resultado.ocupadoNs += servico;
+            canalProcesso[canal] = processo;
+            eventos.inserir(t + servico, canal << 1 | CANAL);
+        }
+
+        private void concluir(int canal, long t) {
+            int processo = canalProcesso[canal];
+            if (processo != GRAVACAO) {
+                resultado.somaLatenciaFaultNs += t - inicioFault[processo];
+                int page = paginaLida[processo];
+                // Se a página saiu e voltou durante a leitura, ela já tem outro dono
+                if (leituraDe[page] == processo) leituraDe[page] = -1;
+                eventos.inserir(t + HIT_NS, processo << 1 | PROCESSO);
+                for (int w = cabecaEspera[processo]; w >= 0; w = proximaEspera[w]) {
+                    eventos.inserir(t + HIT_NS, w << 1 | PROCESSO);
+                }
+                cabecaEspera[processo] = -1;
+            }
+
+            if (filaTamanho > 0) {
+                int proximo = filaProcesso[filaInicio];
+                long chegada = filaChegada[filaInicio];
+                filaInicio = (filaInicio + 1) % filaProcesso.length;
+                filaTamanho--;
+                iniciar(canal, proximo, t, chegada);
+            } else {
+                livres[nLivres++] = canal;
+            }
+
+            // Abriu vaga: os parados submetem na ordem em que pararam
+            while (paradosTamanho > 0) {
+                int k = parados[paradosInicio];
+                if (!submeter(k, t)) break;
+                paradosInicio = (paradosInicio + 1) % parados.length;
+                paradosTamanho--;
+                bloqueado[k] = false;
+                resultado.bloqueioNs += t - inicioBloqueio[k];
+            }
+        }
+    }
+
+    //Relatorio CSV
+
+    private static void gerarCsv(List<ResultadoTempo> resultados) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/simulated_time.csv"));
+        bw.write("workload,algorithm,frames,processes,channels,queue_depth,hit_ns,read_us,write_us,accesses,page_faults,"
+                + "fault_rate_pct,write_backs,completion_ms,refs_per_sec,device_util_pct,avg_queue_delay_us,"
+                + "p99_queue_delay_us,avg_fault_latency_us,io_stall_ms\n");
+        for (ResultadoTempo r : resultados) {
+            bw.write(r.workload + "," +
+                     r.algoritmo + "," +
+                     r.frames + "," +
+                     r.processos + "," +
+                     r.canais + "," +
+                     FILA_IO + "," +
+                     HIT_NS + "," +
+                     LEITURA_NS / 1000 + "," +
+                     ESCRITA_NS / 1000 + "," +
+                     r.acessos + "," +
+                     r.faults + "," +
+                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "," +
+                     r.writeBacks + "," +
+                     String.format("%.3f", r.conclusaoNs / 1e6).replace(",", ".") + "," +
+                     String.format("%.0f", r.getReferenciasPorSegundo()) + "," +
+                     String.format("%.2f", r.getUtilizacao()).replace(",", ".") + "," +
+                     String.format("%.3f", r.getEsperaMediaUs()).replace(",", ".") + "," +
+                     String.format("%.3f", r.esperaFila.percentil(0.99) / 1e3).replace(",", ".") + "," +
+                     String.format("%.3f", r.getLatenciaFaultMediaUs()).replace(",", ".") + "," +
+                     String.format("%.3f", r.bloqueioNs / 1e6).replace(",", ".") + "\n");
+        }
+        bw.close();
+    }
+}
@@ -1,12 +1,20 @@
 package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
 
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoAlocacaoVariavel;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComDespejo;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoComTick;
 import core.src.main.java.br.edu.ufcg.computacao.so.core.api.AlgoritmoSubstituicaoPages;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Metricas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.PaginasSujas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.api.Temporizador;
 import core.src.main.java.br.edu.ufcg.computacao.so.core.algoritmos.*;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.mrc.CurvaFalhas;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.FonteReferencias;
+import core.src.main.java.br.edu.ufcg.computacao.so.core.trace.LeitorTrace;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,22 +23,38 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 public class Simulator {
 
     //Ordem dos grupos e tamanhos no relatorio
     private static final List<String> ORDEM_TIPO   = List.of("random", "sequential", "locality", "phases");
     private static final List<String> ORDEM_TAMANHO = List.of("xs", "sm", "md", "lg", "xl");
-    private static final List<String> ORDEM_ALGOS   = List.of("FIFO", "LRU", "LFU", "Clock", "Random", "Otimo");
+    private static final List<String> ORDEM_ALGOS   = List.of("FIFO", "LRU", "LFU", "Clock", "ClockNRU", "Random", "ARC", "LIRS", "ClockPro", "WTinyLFU", "2Q", "SLRU", "Aging", "NFU", "WSClock", "Otimo");
+
+    // Curvas densas (todas as quantidades de frames de 1 ate este limite) para os algoritmos de pilha
+    private static final int MAX_FRAMES_CURVA = 4096;
+
+    // Interrupcao do relogio simulada (Aging, NFU, WSClock): tick a cada N referencias
+    private static final int PERIODO_TICK = Integer.getInteger("simulator.tick", 100);
+    // Janela do working set do WSClock, em referencias
+    private static final int TAU = Integer.getInteger("simulator.tau", 1000);
+
+    // Alocacao variavel: janelas do Working Set e pares (intervaloCurto, intervaloLongo) do PFF, em referencias
+    private static final int[]   JANELAS_WS   = {10, 50, 100, 500, 1000, 5000};
+    private static final int[][] LIMIARES_PFF = {{5, 50}, {10, 100}, {25, 250}, {50, 500}, {100, 1000}, {500, 5000}};
+    private static final int     TOTAL_VARIAVEIS = JANELAS_WS.length + LIMIARES_PFF.length;
 
     static class ResultadoSimulacao {
         String workload;
         String algoritmo;
         int frames;
-        int pageFaults;
-        int totalAcessos;
+        long pageFaults;
+        long totalAcessos;
+        long writeBacks;   // despejos de paginas sujas (ver PaginasSujas)
+        Metricas metricas; // null com -Dsimulator.metricas desligado
 
-        public ResultadoSimulacao(String workload, String algoritmo, int frames, int pageFaults, int totalAcessos) {
+        public ResultadoSimulacao(String workload, String algoritmo, int frames, long pageFaults, long totalAcessos) {
             this.workload     = workload;
             this.algoritmo    = algoritmo;
             this.frames       = frames;
@@ -52,6 +76,39 @@ public class Simulator {
         }
     }
 
+    // Politica de alocacao variavel: frames e o pico de residentes, com a media ao lado
+    static class ResultadoAlocacaoVariavel extends ResultadoSimulacao {
+        String parametro;
+        double mediaResidentes;
+        int picoResidentes;
+
+        public ResultadoAlocacaoVariavel(String workload, String algoritmo, AlgoritmoAlocacaoVariavel algo,
+                                         long pageFaults, long totalAcessos) {
+            super(workload, algoritmo, algo.getPicoResidentes(), pageFaults, totalAcessos);
+            this.parametro       = parametroAlocacao(algo);
+            this.mediaResidentes = algo.getMediaResidentes();
+            this.picoResidentes  = algo.getPicoResidentes();
+            this.metricas        = algo.getMetricas();
+        }
+    }
+
+    // Trace ja carregado; compartilhado entre as tarefas e nunca modificado
+    static class WorkloadCarregado {
+        final String nome;
+        final int[] referencias;
+        final long[] escritas;    // bit i ligado = referencia i e escrita
+        final int[] proximosUsos; // indice do Otimo, igual para todos os tamanhos de frame
+        final int universo;       // maior pagina + 1, para os indices de residencia densos
+
+        WorkloadCarregado(String nome, int[] referencias, long[] escritas, int[] proximosUsos, int universo) {
+            this.nome         = nome;
+            this.referencias  = referencias;
+            this.escritas     = escritas;
+            this.proximosUsos = proximosUsos;
+            this.universo     = universo;
+        }
+    }
+
     private static Map<String, String> iniciarDescricoes() {
         Map<String, String> d = new HashMap<>();
 
@@ -113,33 +170,53 @@ public class Simulator {
         File[] arquivos = diretorio.listFiles();
 
         if (arquivos == null || arquivos.length == 0) {
-            System.err.println("Nenhum CSV encontrado na pasta data/workloads");
+            System.err.println("Nenhum workload (.csv ou .trace) encontrado na pasta data/workloads");
             return;
         }
 
-        List<File> arquivosCsv = new ArrayList<>();
+        // Um arquivo por workload, na ordem de preferencia de LeitorTrace.EXTENSOES (.trace antes do .csv)
+        Map<String, File> porNome = new HashMap<>();
         for (File arquivo : arquivos) {
-            if (arquivo.getName().endsWith(".csv")) arquivosCsv.add(arquivo);
+            String nome = LeitorTrace.nomeWorkload(arquivo.getName());
+            if (nome == null) continue;
+            File atual = porNome.get(nome);
+            if (atual == null || LeitorTrace.prioridade(arquivo.getName()) < LeitorTrace.prioridade(atual.getName())) {
+                porNome.put(nome, arquivo);
+            }
         }
-        Collections.sort(arquivosCsv);
+        List<String> nomesWorkloads = new ArrayList<>(porNome.keySet());
+        Collections.sort(nomesWorkloads);
 
-        System.out.println("Encontrados " + arquivosCsv.size() + " workloads. Iniciando simulacao...\n");
+        ExecutorGrade executor = ExecutorGrade.padrao();
+        boolean streaming = Boolean.getBoolean("simulator.streaming");
+        System.out.println("Encontrados " + nomesWorkloads.size() + " workloads. Iniciando simulacao (paralelismo "
+                + executor.getParalelismo() + (streaming ? ", streaming" : "") + ")...\n");
 
-        List<ResultadoSimulacao> resultados = new ArrayList<>();
         int[] tamanhosFrame = {2, 4, 8, 16, 32, 64, 128};
-        int totalSimulacoes = arquivosCsv.size() * tamanhosFrame.length;
-        int concluidos = 0;
-
-        for (File csv : arquivosCsv) {
-            String nomeWorkload = csv.getName().replace(".csv", "");
-            List<Integer> referencias = carregarReferencias(csv);
-
-            for (int frames : tamanhosFrame) {
-                executarAlgoritmos(nomeWorkload, referencias, frames, resultados);
-                concluidos++;
-                System.out.printf("  [%3d/%3d] %-45s frames=%d\n", concluidos, totalSimulacoes, nomeWorkload, frames);
+        List<ResultadoSimulacao> resultados;
+        Map<String, Map<String, int[]>> curvas = new LinkedHashMap<>();
+
+        if (streaming) {
+            // Traces maiores que o heap: uma leitura por arquivo, memoria constante
+            List<Callable<List<ResultadoSimulacao>>> tarefas = new ArrayList<>();
+            for (String nome : nomesWorkloads) tarefas.add(() -> simularStreaming(nome, porNome.get(nome), tamanhosFrame));
+            resultados = new ArrayList<>();
+            for (List<ResultadoSimulacao> parcial : executor.executar(tarefas,
+                    i -> porNome.get(nomesWorkloads.get(i)).length(), "streaming")) {
+                resultados.addAll(parcial);
             }
+        } else {
+            resultados = simularEmMemoria(executor, nomesWorkloads, porNome, tamanhosFrame, curvas);
+        }
+
+        // As politicas de alocacao variavel tem relatorio proprio: nao ha numero fixo de frames
+        List<ResultadoAlocacaoVariavel> variaveis = new ArrayList<>();
+        List<ResultadoSimulacao> fixos = new ArrayList<>();
+        for (ResultadoSimulacao res : resultados) {
+            if (res instanceof ResultadoAlocacaoVariavel v) variaveis.add(v);
+            else fixos.add(res);
         }
+        resultados = fixos;
 
         File pastaResults = new File("results");
         if (!pastaResults.exists()) pastaResults.mkdir();
@@ -147,40 +224,209 @@ public class Simulator {
         System.out.println("\nGerando relatorios...");
         gerarRelatorioTxt(resultados, descricoes);
         gerarRelatorioCsv(resultados, descricoes);
+        if (!curvas.isEmpty()) gerarCurvasCsv(curvas);
+        gerarAlocacaoVariavelCsv(variaveis);
         System.out.println("Relatorios gerados na pasta results/!");
     }
 
-    private static List<Integer> carregarReferencias(File arquivo) throws Exception {
-        List<Integer> sequencia = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(arquivo))){
-        br.readLine(); // pula cabecalho
-        String linha;
-        while ((linha = br.readLine()) != null) {
-            if (!linha.trim().isEmpty()) sequencia.add(Integer.parseInt(linha.trim()));
+    private static List<ResultadoSimulacao> simularEmMemoria(ExecutorGrade executor, List<String> nomesWorkloads,
+                                                             Map<String, File> porNome, int[] tamanhosFrame,
+                                                             Map<String, Map<String, int[]>> curvas) throws Exception {
+        // Cada trace e carregado uma unica vez e compartilhado (somente leitura) pelas tarefas
+        List<Callable<WorkloadCarregado>> carregamentos = new ArrayList<>();
+        for (String nome : nomesWorkloads) carregamentos.add(() -> carregarWorkload(nome, porNome.get(nome)));
+        List<WorkloadCarregado> workloads = executor.executar(carregamentos,
+                i -> porNome.get(nomesWorkloads.get(i)).length(), "carga");
+
+        // Grade workload x frames x algoritmo, na mesma ordem da execucao sequencial
+        List<Callable<ResultadoSimulacao>> tarefas = new ArrayList<>();
+        List<Long> custos = new ArrayList<>();
+        for (WorkloadCarregado workload : workloads) {
+            for (int frames : tamanhosFrame) {
+                for (String algoritmo : ORDEM_ALGOS) {
+                    tarefas.add(() -> simular(workload, frames, algoritmo));
+                    custos.add((long) workload.referencias.length);
+                }
+            }
+            for (int k = 0; k < TOTAL_VARIAVEIS; k++) {
+                int configuracao = k;
+                tarefas.add(() -> simularVariavel(workload, configuracao));
+                custos.add((long) workload.referencias.length);
+            }
+        }
+        List<ResultadoSimulacao> resultados = executor.executar(tarefas, custos::get, "simulacao");
+
+        List<Callable<Map<String, int[]>>> tarefasCurvas = new ArrayList<>();
+        for (WorkloadCarregado workload : workloads) tarefasCurvas.add(() -> calcularCurvas(workload.referencias));
+        List<Map<String, int[]>> listaCurvas = executor.executar(tarefasCurvas,
+                i -> workloads.get(i).referencias.length, "curvas");
+        for (int i = 0; i < workloads.size(); i++) curvas.put(workloads.get(i).nome, listaCurvas.get(i));
+
+        return resultados;
+    }
+
+    /**
+     * Le o trace uma unica vez, em blocos de tamanho fixo, e entrega cada bloco a todos os
+     * algoritmos e tamanhos de frame. A memoria nao depende do tamanho do trace.
+     * O Otimo fica de fora: ele precisa conhecer o trace inteiro de antemao.
+     */
+    private static List<ResultadoSimulacao> simularStreaming(String nome, File arquivo, int[] tamanhosFrame) throws Exception {
+        List<String> nomes = new ArrayList<>();
+        List<AlgoritmoComDespejo> algoritmos = new ArrayList<>();
+        for (int frames : tamanhosFrame) {
+            for (String algoritmo : ORDEM_ALGOS) {
+                if (algoritmo.equals("Otimo")) continue;
+                nomes.add(algoritmo);
+                algoritmos.add(criarAlgoritmo(algoritmo, frames, nome, null));
+            }
+        }
+        for (int k = 0; k < TOTAL_VARIAVEIS; k++) {
+            AlgoritmoAlocacaoVariavel algo = criarAlocacaoVariavel(k, 0);
+            nomes.add(nomeAlocacao(algo));
+            algoritmos.add(algo);
+        }
+
+        long[] faults = new long[algoritmos.size()];
+        Temporizador[] temporizadores = new Temporizador[algoritmos.size()];
+        PaginasSujas[] sujas = new PaginasSujas[algoritmos.size()];
+        for (int k = 0; k < temporizadores.length; k++) {
+            temporizadores[k] = temporizadorPara(algoritmos.get(k));
+            sujas[k] = new PaginasSujas(0);
+            algoritmos.get(k).setOuvinteDespejo(sujas[k]);
+        }
+        long total = 0;
+        try (FonteReferencias fonte = FonteReferencias.abrir(arquivo.toPath())) {
+            int[] bloco = new int[FonteReferencias.TAMANHO_BLOCO_PADRAO];
+            long[] escritas = new long[bloco.length >>> 6];
+            int n;
+            while ((n = fonte.lerBloco(bloco, escritas)) >= 0) {
+                for (int k = 0; k < faults.length; k++) {
+                    // contado aqui em long: getPageFaults() estoura em traces bilionarios
+                    faults[k] += sujas[k].accessoLote(algoritmos.get(k), temporizadores[k], bloco, escritas, 0, n);
+                }
+                total += n;
+            }
+        }
+
+        List<ResultadoSimulacao> resultados = new ArrayList<>();
+        for (int k = 0; k < faults.length; k++) {
+            AlgoritmoSubstituicaoPages algo = algoritmos.get(k);
+            ResultadoSimulacao r = algo instanceof AlgoritmoAlocacaoVariavel variavel
+                    ? new ResultadoAlocacaoVariavel(nome, nomes.get(k), variavel, faults[k], total)
+                    : new ResultadoSimulacao(nome, nomes.get(k), algo.getCapacity(), faults[k], total);
+            r.writeBacks = sujas[k].getWriteBacks();
+            r.metricas = algo.getMetricas();
+            resultados.add(r);
         }
+        return resultados;
     }
-        return sequencia;
+
+    private static WorkloadCarregado carregarWorkload(String nome, File arquivo) throws Exception {
+        LeitorTrace.Carregado trace = LeitorTrace.carregarComEscritas(arquivo.toPath());
+        int[] referencias = trace.referencias;
+        return new WorkloadCarregado(nome, referencias, trace.escritas, AlgoritmoOtimoHeap.calcularProximosUsos(referencias),
+                IndiceResidencia.universo(referencias));
+    }
+
+    private static ResultadoSimulacao simular(WorkloadCarregado workload, int frames, String nomeAlgoritmo) {
+        AlgoritmoComDespejo algo = criarAlgoritmo(nomeAlgoritmo, frames, workload.nome, workload);
+        PaginasSujas sujas = new PaginasSujas(workload.universo);
+        algo.setOuvinteDespejo(sujas);
+        sujas.accessoLote(algo, temporizadorPara(algo), workload.referencias, workload.escritas, 0, workload.referencias.length);
+        ResultadoSimulacao r = new ResultadoSimulacao(workload.nome, nomeAlgoritmo, frames, algo.getPageFaults(), workload.referencias.length);
+        r.writeBacks = sujas.getWriteBacks();
+        r.metricas = algo.getMetricas();
+        return r;
     }
 
-    private static void executarAlgoritmos(String nomeWorkload, List<Integer> referencias, int frames, List<ResultadoSimulacao> resultados) {
-        AlgoritmoOtimo otimo = new AlgoritmoOtimo(frames);
-        otimo.carregarReferencias(referencias);
-
-        // Usa LinkedHashMap para manter ordem de insercao
-        Map<String, AlgoritmoSubstituicaoPages> algoritmos = new LinkedHashMap<>();
-        algoritmos.put("FIFO",   new AlgoritmoFIFO(frames));
-        algoritmos.put("LRU",    new AlgoritmoLRU(frames));
-        algoritmos.put("LFU",    new AlgoritmoLFU(frames));
-        algoritmos.put("Clock",  new AlgoritmoClock(frames));
-        algoritmos.put("Random", new AlgoritmoRandom(frames));
-        algoritmos.put("Otimo",  otimo);
-
-        for (Map.Entry<String, AlgoritmoSubstituicaoPages> entry : algoritmos.entrySet()) {
-            AlgoritmoSubstituicaoPages algo = entry.getValue();
-            algo.reset();
-            for (int pagina : referencias) algo.accesso(pagina);
-            resultados.add(new ResultadoSimulacao(nomeWorkload, entry.getKey(), frames, algo.getPageFaults(), referencias.size()));
+    private static ResultadoSimulacao simularVariavel(WorkloadCarregado workload, int configuracao) {
+        AlgoritmoAlocacaoVariavel algo = criarAlocacaoVariavel(configuracao, workload.universo);
+        PaginasSujas sujas = new PaginasSujas(workload.universo);
+        algo.setOuvinteDespejo(sujas);
+        sujas.accessoLote(algo, null, workload.referencias, workload.escritas, 0, workload.referencias.length);
+        ResultadoAlocacaoVariavel r = new ResultadoAlocacaoVariavel(workload.nome, nomeAlocacao(algo), algo,
+                algo.getPageFaults(), workload.referencias.length);
+        r.writeBacks = sujas.getWriteBacks();
+        return r;
+    }
+
+    // Entrega refs[from..to) ao algoritmo; os que dependem do relogio recebem os ticks no caminho
+    static int reproduzir(AlgoritmoSubstituicaoPages algo, Temporizador temporizador, int[] refs, int from, int to) {
+        if (temporizador != null) return temporizador.accessoLote((AlgoritmoComTick) algo, refs, from, to);
+        return algo.accessoLote(refs, from, to);
+    }
+
+    static Temporizador temporizadorPara(AlgoritmoSubstituicaoPages algo) {
+        return algo instanceof AlgoritmoComTick ? new Temporizador(PERIODO_TICK) : null;
+    }
+
+    private static AlgoritmoComDespejo criarAlgoritmo(String nome, int frames, String nomeWorkload, WorkloadCarregado workload) {
+        if (nome.equals("Otimo")) {
+            AlgoritmoOtimoHeap otimo = new AlgoritmoOtimoHeap(frames);
+            otimo.carregarProximosUsos(workload.proximosUsos); // indice compartilhado entre os frames
+            return otimo;
         }
+        // No modo streaming o universo nao e conhecido: os indices caem no mapa primitivo
+        return criarAlgoritmo(nome, frames, nomeWorkload, workload != null ? workload.universo : 0);
+    }
+
+    // Algoritmos que nao precisam conhecer o trace de antemao (todos menos o Otimo)
+    static AlgoritmoComDespejo criarAlgoritmo(String nome, int frames, String nomeWorkload, int universo) {
+        return switch (nome) {
+            case "FIFO"     -> new AlgoritmoFIFO(frames, universo);
+            case "LRU"      -> new AlgoritmoLRUPrimitivo(frames);
+            case "LFU"      -> new AlgoritmoLFUBuckets(frames);
+            case "Clock"    -> new AlgoritmoClock(frames, universo);
+            case "ClockNRU" -> new AlgoritmoClockNRU(frames, universo);
+            case "Random"   -> new AlgoritmoRandom(frames, universo, semente(nomeWorkload, frames));
+            case "ARC"      -> new AlgoritmoARC(frames, universo);
+            case "LIRS"     -> new AlgoritmoLIRS(frames, universo);
+            case "ClockPro" -> new AlgoritmoClockPro(frames, universo);
+            case "WTinyLFU" -> new AlgoritmoWTinyLFU(frames, universo);
+            case "2Q"       -> new Algoritmo2Q(frames, universo);
+            case "SLRU"     -> new AlgoritmoSLRU(frames, universo);
+            case "Aging"    -> new AlgoritmoAging(frames, universo);
+            case "NFU"      -> new AlgoritmoNFU(frames, universo);
+            case "WSClock"  -> new AlgoritmoWSClock(frames, TAU, universo);
+            default -> throw new IllegalArgumentException("Algoritmo desconhecido: " + nome);
+        };
+    }
+
+    // Configuracao k da grade de alocacao variavel: primeiro as janelas do Working Set, depois o PFF
+    private static AlgoritmoAlocacaoVariavel criarAlocacaoVariavel(int k, int universo) {
+        if (k < JANELAS_WS.length) return new AlgoritmoWorkingSet(JANELAS_WS[k], universo);
+        int[] limiares = LIMIARES_PFF[k - JANELAS_WS.length];
+        return new AlgoritmoPFF(limiares[0], limiares[1], universo);
+    }
+
+    private static String nomeAlocacao(AlgoritmoAlocacaoVariavel algo) {
+        return switch (algo) {
+            case AlgoritmoWorkingSet ws -> "WorkingSet";
+            case AlgoritmoPFF pff       -> "PFF";
+            default                     -> algo.getClass().getSimpleName();
+        };
+    }
+
+    private static String parametroAlocacao(AlgoritmoAlocacaoVariavel algo) {
+        return switch (algo) {
+            case AlgoritmoWorkingSet ws -> "tau=" + ws.getTau();
+            case AlgoritmoPFF pff       -> "intervalo=" + pff.getIntervaloCurto() + "/" + pff.getIntervaloLongo();
+            default                     -> "";
+        };
+    }
+
+    // Semente fixa por celula (workload, frames): o Random da o mesmo resultado em toda
+    // execucao, em qualquer ordem de tarefas e tanto em memoria quanto em streaming
+    private static long semente(String nomeWorkload, int frames) {
+        return ((long) nomeWorkload.hashCode() << 32) ^ frames;
+    }
+
+    // LRU e Otimo sao algoritmos de pilha: uma passada da a curva inteira de faults x frames
+    private static Map<String, int[]> calcularCurvas(int[] referencias) {
+        Map<String, int[]> curvas = new LinkedHashMap<>();
+        curvas.put("LRU",   CurvaFalhas.lru(referencias, MAX_FRAMES_CURVA));
+        curvas.put("Otimo", CurvaFalhas.otimo(referencias, MAX_FRAMES_CURVA));
+        return curvas;
     }
 
     //Ordenacao
@@ -275,7 +521,7 @@ public class Simulator {
                 bw.write(String.format("  %-8d", entry.getKey()));
 
                 // Melhor entre os praticos
-                int melhorPratico = Integer.MAX_VALUE;
+                long melhorPratico = Long.MAX_VALUE;
                 for (ResultadoSimulacao res : linha) {
                     if (!res.algoritmo.equals("Otimo") && res.pageFaults < melhorPratico)
                         melhorPratico = res.pageFaults;
@@ -343,7 +589,8 @@ public class Simulator {
 
     private static void gerarRelatorioCsv(List<ResultadoSimulacao> resultados, Map<String, String> descricoes) throws Exception {
         BufferedWriter bw = new BufferedWriter(new FileWriter("results/simulation_results.csv"));
-        bw.write("workload,workload_type,workload_size,description,algorithm,frames,page_faults,total_accesses,fault_rate_pct\n");
+        bw.write("workload,workload_type,workload_size,description,algorithm,frames,page_faults,total_accesses,fault_rate_pct,write_backs"
+                + (Metricas.ATIVAS ? COLUNAS_METRICAS : "") + "\n");
 
         // Ordena o CSV: tipo > tamanho > workload > algoritmo > frames
         List<ResultadoSimulacao> ordenados = new ArrayList<>(resultados);
@@ -374,8 +621,90 @@ public class Simulator {
                      r.frames + "," +
                      r.pageFaults + "," +
                      r.totalAcessos + "," +
-                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "\n");
+                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "," +
+                     r.writeBacks +
+                     (Metricas.ATIVAS ? colunasMetricas(r.metricas) : "") + "\n");
+        }
+        bw.close();
+    }
+
+    //Metricas por algoritmo (-Dsimulator.metricas=true): colunas extras nos dois CSVs
+
+    private static final String COLUNAS_METRICAS =
+            ",hits,evictions,churn_pct,work_per_hit,work_per_fault,work_per_fault_p50,work_per_fault_p99,work_per_fault_max";
+
+    private static String colunasMetricas(Metricas m) {
+        if (m == null) return ",,,,,,,,";
+        return "," + m.getHits() +
+               "," + m.getDespejos() +
+               "," + String.format("%.4f", m.getRotatividade()).replace(",", ".") +
+               "," + String.format("%.4f", m.getTrabalhoMedioHit()).replace(",", ".") +
+               "," + String.format("%.4f", m.getTrabalhoMedioFault()).replace(",", ".") +
+               "," + m.percentilTrabalhoFault(0.50) +
+               "," + m.percentilTrabalhoFault(0.99) +
+               "," + m.getTrabalhoMaximoFault();
+    }
+
+    //Curvas de faults (uma linha por workload/algoritmo/frames)
+
+    private static void gerarCurvasCsv(Map<String, Map<String, int[]>> curvas) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/mrc_curves.csv"));
+        bw.write("workload,algorithm,frames,page_faults,total_accesses,fault_rate_pct\n");
+
+        for (String workload : ordenarWorkloads(new ArrayList<>(curvas.keySet()))) {
+            for (Map.Entry<String, int[]> entry : curvas.get(workload).entrySet()) {
+                int[] faults = entry.getValue();
+                int total = faults[0]; // com 0 frames toda referencia e fault
+                // A curva para em min(MAX_FRAMES_CURVA, paginas distintas); depois disso e constante
+                for (int frames = 1; frames < faults.length; frames++) {
+                    double taxa = total == 0 ? 0.0 : (100.0 * faults[frames]) / total;
+                    bw.write(workload + "," +
+                             entry.getKey() + "," +
+                             frames + "," +
+                             faults[frames] + "," +
+                             total + "," +
+                             String.format("%.4f", taxa).replace(",", ".") + "\n");
+                }
+            }
+        }
+        bw.close();
+    }
+
+    //Alocacao variavel (Working Set, PFF): memoria media e de pico ao lado dos faults
+
+    private static void gerarAlocacaoVariavelCsv(List<ResultadoAlocacaoVariavel> resultados) throws Exception {
+        BufferedWriter bw = new BufferedWriter(new FileWriter("results/variable_allocation.csv"));
+        bw.write("workload,workload_type,workload_size,algorithm,parameter,page_faults,total_accesses,fault_rate_pct,avg_resident,peak_resident,write_backs"
+                + (Metricas.ATIVAS ? COLUNAS_METRICAS : "") + "\n");
+
+        // tipo > tamanho > workload; dentro do workload, a ordem da grade (sort estavel)
+        List<ResultadoAlocacaoVariavel> ordenados = new ArrayList<>(resultados);
+        ordenados.sort(Comparator
+            .<ResultadoAlocacaoVariavel, Integer>comparing(r -> {
+                int idx = ORDEM_TIPO.indexOf(r.getTipoWorkload());
+                return idx < 0 ? 99 : idx;
+            })
+            .thenComparing(r -> {
+                int idx = ORDEM_TAMANHO.indexOf(r.getTamanhoWorkload());
+                return idx < 0 ? 99 : idx;
+            })
+            .thenComparing(r -> r.workload)
+        );
+
+        for (ResultadoAlocacaoVariavel r : ordenados) {
+            bw.write(r.workload + "," +
+                     r.getTipoWorkload() + "," +
+                     r.getTamanhoWorkload() + "," +
+                     r.algoritmo + "," +
+                     r.parametro + "," +
+                     r.pageFaults + "," +
+                     r.totalAcessos + "," +
+                     String.format("%.4f", r.getTaxaFalha()).replace(",", ".") + "," +
+                     String.format("%.2f", r.mediaResidentes).replace(",", ".") + "," +
+                     r.picoResidentes + "," +
+                     r.writeBacks +
+                     (Metricas.ATIVAS ? colunasMetricas(r.metricas) : "") + "\n");
         }
         bw.close();
     }
-}
\ No newline at end of file
+}
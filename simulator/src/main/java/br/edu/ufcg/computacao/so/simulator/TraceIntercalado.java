@@ -0,0 +1,91 @@
+package simulator.src.main.java.br.edu.ufcg.computacao.so.simulator;
+
+import core.src.main.java.br.edu.ufcg.computacao.so.core.estruturas.IndiceResidencia;
+
+import java.util.List;
+
+/**
+ * Traces de vários processos intercalados por um escalonador de fatias (quantum).
+ *
+ * Estrutura:
+ *   - referencias : páginas já marcadas com o processo (página + base do processo), então
+ *                   dois processos nunca compartilham uma página
+ *   - fatias      : fatia k = referencias[inicioFatia[k]..inicioFatia[k + 1]), toda de fatiaProcesso[k]
+ *   - universos   : tamanho do espaço de endereçamento de cada processo (usado na alocação proporcional)
+ *
+ * Os processos são atendidos em round-robin; cada um roda até o seu quantum ou até o trace
+ * acabar, e quem termina sai da fila.
+ */
+final class TraceIntercalado {
+
+    final int[] referencias;
+    final int[] inicioFatia; // uma posição a mais: o fim da última fatia
+    final int[] fatiaProcesso;
+    final int[] universos;
+    final long[] acessos;   // referências de cada processo
+    final int universo;     // soma dos universos: páginas marcadas são 0..universo-1
+
+    private TraceIntercalado(int[] referencias, int[] inicioFatia, int[] fatiaProcesso, int[] universos, long[] acessos) {
+        this.referencias   = referencias;
+        this.inicioFatia   = inicioFatia;
+        this.fatiaProcesso = fatiaProcesso;
+        this.universos     = universos;
+        this.acessos       = acessos;
+        int soma = 0;
+        for (int u : universos) soma += u;
+        this.universo = soma;
+    }
+
+    /**
+     * @param traces um trace por processo (não são modificados)
+     * @param quanta referências por fatia de cada processo
+     */
+    static TraceIntercalado intercalar(List<int[]> traces, int[] quanta) {
+        int n = traces.size();
+        if (quanta.length != n) throw new IllegalArgumentException("quanta.length != processos");
+
+        int[] universos = new int[n];
+        int[] bases = new int[n];
+        long[] acessos = new long[n];
+        int total = 0;
+        int fatias = 0;
+        for (int i = 0; i < n; i++) {
+            if (quanta[i] <= 0) throw new IllegalArgumentException("quantum <= 0");
+            int[] trace = traces.get(i);
+            universos[i] = IndiceResidencia.universo(trace);
+            bases[i] = i == 0 ? 0 : bases[i - 1] + universos[i - 1];
+            acessos[i] = trace.length;
+            total += trace.length;
+            fatias += (trace.length + quanta[i] - 1) / quanta[i];
+        }
+
+        int[] referencias = new int[total];
+        int[] inicioFatia = new int[fatias + 1];
+        int[] fatiaProcesso = new int[fatias];
+        int[] cursor = new int[n];
+        int pos = 0;
+        int k = 0;
+        while (pos < total) {
+            for (int i = 0; i < n; i++) {
+                int[] trace = traces.get(i);
+                if (cursor[i] == trace.length) continue;
+                int fim = Math.min(trace.length, cursor[i] + quanta[i]);
+                inicioFatia[k] = pos;
+                fatiaProcesso[k] = i;
+                k++;
+                for (int j = cursor[i]; j < fim; j++) referencias[pos++] = trace[j] + bases[i];
+                cursor[i] = fim;
+            }
+        }
+        inicioFatia[k] = pos;
+        return new TraceIntercalado(referencias, inicioFatia, fatiaProcesso, universos, acessos);
+    }
+
+    int processos() {
+        return universos.length;
+    }
+
+    int fatias() {
+        return fatiaProcesso.length;
+    }
+}
@@ -0,0 +1,228 @@
+"""
+tradeoff_report.py
+Junta o custo por referência medido no JMH com a taxa de faults do simulador e responde,
+para cada workload x frames, se a taxa menor de um algoritmo paga o custo extra de CPU.
+
+Tempo efetivo de acesso (EAT) de um algoritmo numa célula, para um custo de fault S:
+    EAT(S) = ns_por_referencia + (taxa_de_faults / 100) * S
+
+Gera em reports/:
+    tradeoff_eat.csv        EAT de cada algoritmo para cada custo de fault pedido
+    tradeoff_pareto.csv     fronteira de Pareto (ns/referência x taxa de faults) por célula
+    tradeoff_breakeven.csv  custos de fault em que o melhor algoritmo muda (break-even)
+    tradeoff_resumo.csv     em quantas células cada algoritmo tem o menor EAT, por custo
+
+Uso:
+    python tradeoff_report.py
+    python tradeoff_report.py --jmh results/jmh_results.json --sim results/simulation_results.csv
+    python tradeoff_report.py --fault-ns 100 10000 5000000   # custos de fault em ns
+    python tradeoff_report.py --incluir-otimo                # Ótimo entra na fronteira
+"""
+
+import argparse
+import csv
+import json
+import math
+import os
+from collections import defaultdict
+
+# ─────────────────────────────────────────────
+# Configuração
+# ─────────────────────────────────────────────
+
+# Implementação do JMH que o simulador usa para cada nome de algoritmo. As variantes que
+# o simulador não roda (LRU com LinkedHashMap, LFU com heap, Ótimo com listas) ficam de fora.
+JMH_PARA_SIMULADOR = {
+    "FIFO":         "FIFO",
+    "LRUPrimitivo": "LRU",
+    "LFUBuckets":   "LFU",
+    "Clock":        "Clock",
+    "ClockNRU":     "ClockNRU",
+    "Random":       "Random",
+    "ARC":          "ARC",
+    "LIRS":         "LIRS",
+    "ClockPro":     "ClockPro",
+    "WTinyLFU":     "WTinyLFU",
+    "2Q":           "2Q",
+    "SLRU":         "SLRU",
+    "Aging":        "Aging",
+    "NFU":          "NFU",
+    "WSClock":      "WSClock",
+    "OtimoHeap":    "Otimo",
+}
+
+# Custos de serviço de um fault (ns): memória remota, SSD NVMe, SSD SATA, disco rotacional
+FAULT_NS_PADRAO = [1_000, 20_000, 100_000, 5_000_000]
+
+BENCHMARK_REPLAY = "AlgoritmoBenchmark."
+FATOR_NS = {"ns": 1.0, "us": 1e3, "ms": 1e6, "s": 1e9}
+
+# ─────────────────────────────────────────────
+# Leitura
+# ─────────────────────────────────────────────
+
+def ler_jmh(path, metodo):
+    """(workload, algoritmo, frames) → ns por referência, do contador auxiliar 'referencias'."""
+    with open(path) as f:
+        resultados = json.load(f)
+
+    custos = {}
+    for r in resultados:
+        if not r["benchmark"].endswith(BENCHMARK_REPLAY + metodo):
+            continue
+        params = r.get("params", {})
+        algoritmo = JMH_PARA_SIMULADOR.get(params.get("algoritmo"))
+        if algoritmo is None:
+            continue
+        metrica = r.get("secondaryMetrics", {}).get("referencias")
+        if metrica is None:
+            continue
+        unidade = metrica["scoreUnit"].split("/")[0]
+        custos[(params["workload"], algoritmo, int(params["frames"]))] = metrica["score"] * FATOR_NS[unidade]
+    return custos
+
+def ler_simulacao(path):
+    """(workload, algoritmo, frames) → linha do simulation_results.csv."""
+    with open(path, newline="") as f:
+        return {(l["workload"], l["algorithm"], int(l["frames"])): l for l in csv.DictReader(f)}
+
+def juntar(custos, simulacao, incluir_otimo):
+    """Células (workload, frames) → lista de (algoritmo, ns_por_ref, taxa_pct) com os dois lados medidos."""
+    celulas = defaultdict(list)
+    for (workload, algoritmo, frames), ns in custos.items():
+        linha = simulacao.get((workload, algoritmo, frames))
+        if linha is None:
+            continue
+        if algoritmo == "Otimo" and not incluir_otimo:
+            continue
+        celulas[(workload, frames)].append((algoritmo, ns, float(linha["fault_rate_pct"])))
+    return celulas
+
+# ─────────────────────────────────────────────
+# Análise
+# ─────────────────────────────────────────────
+
+def eat(ns, taxa_pct, fault_ns):
+    return ns + taxa_pct / 100.0 * fault_ns
+
+def fronteira_pareto(pontos):
+    """Algoritmos não dominados em (ns_por_ref, taxa), do mais barato ao de menos faults."""
+    fronteira = []
+    melhor_taxa = math.inf
+    for algoritmo, ns, taxa in sorted(pontos, key=lambda p: (p[1], p[2])):
+        if taxa < melhor_taxa:
+            fronteira.append((algoritmo, ns, taxa))
+            melhor_taxa = taxa
+    return fronteira
+
+def envelope_inferior(pontos):
+    """
+    Cada algoritmo é uma reta EAT(S) = ns + taxa * S. Percorre o envelope inferior a
+    partir de S = 0 e devolve as trocas [(S*, de, para)]: a partir de S* o algoritmo
+    "para" tem o menor EAT. Só pontos da fronteira de Pareto podem aparecer.
+    """
+    fronteira = fronteira_pareto(pontos)
+    if not fronteira:
+        return []
+    trocas = []
+    atual = fronteira[0]
+    s = 0.0
+    while True:
+        proximo, cruzamento = None, math.inf
+        for candidato in fronteira:
+            if candidato[2] >= atual[2]:
+                continue
+            # ns_a + f_a S = ns_c + f_c S  →  S = (ns_c - ns_a) / (f_a - f_c), taxas em fração
+            x = (candidato[1] - atual[1]) / ((atual[2] - candidato[2]) / 100.0)
+            if x >= s and (x < cruzamento or (x == cruzamento and candidato[2] < proximo[2])):
+                proximo, cruzamento = candidato, x
+        if proximo is None:
+            return trocas
+        trocas.append((cruzamento, atual[0], proximo[0]))
+        atual, s = proximo, cruzamento
+
+# ─────────────────────────────────────────────
+# Relatórios
+# ─────────────────────────────────────────────
+
+def gerar(celulas, simulacao, fault_ns, pasta):
+    os.makedirs(pasta, exist_ok=True)
+    vitorias = defaultdict(int)
+
+    with open(os.path.join(pasta, "tradeoff_eat.csv"), "w", newline="") as f_eat, \
+         open(os.path.join(pasta, "tradeoff_pareto.csv"), "w", newline="") as f_par, \
+         open(os.path.join(pasta, "tradeoff_breakeven.csv"), "w", newline="") as f_be:
+        eat_csv = csv.writer(f_eat)
+        par_csv = csv.writer(f_par)
+        be_csv  = csv.writer(f_be)
+        eat_csv.writerow(["workload", "workload_type", "workload_size", "frames", "algorithm", "ns_per_ref",
+                          "fault_rate_pct", "fault_service_ns", "eat_ns", "rank"])
+        par_csv.writerow(["workload", "workload_type", "workload_size", "frames", "algorithm", "ns_per_ref",
+                          "fault_rate_pct", "position"])
+        be_csv.writerow(["workload", "workload_type", "workload_size", "frames", "from_algorithm",
+                         "to_algorithm", "break_even_fault_ns"])
+
+        for (workload, frames), pontos in sorted(celulas.items()):
+            linha = simulacao[(workload, pontos[0][0], frames)]
+            celula = [workload, linha["workload_type"], linha["workload_size"], frames]
+
+            for s in fault_ns:
+                ordem = sorted(pontos, key=lambda p: eat(p[1], p[2], s))
+                vitorias[(s, ordem[0][0])] += 1
+                for rank, (algoritmo, ns, taxa) in enumerate(ordem, 1):
+                    eat_csv.writerow(celula + [algoritmo, f"{ns:.4f}", f"{taxa:.4f}", s,
+                                               f"{eat(ns, taxa, s):.4f}", rank])
+
+            for posicao, (algoritmo, ns, taxa) in enumerate(fronteira_pareto(pontos), 1):
+                par_csv.writerow(celula + [algoritmo, f"{ns:.4f}", f"{taxa:.4f}", posicao])
+
+            for s_estrela, de, para in envelope_inferior(pontos):
+                be_csv.writerow(celula + [de, para, f"{s_estrela:.1f}"])
+
+    with open(os.path.join(pasta, "tradeoff_resumo.csv"), "w", newline="") as f:
+        resumo = csv.writer(f)
+        resumo.writerow(["fault_service_ns", "algorithm", "cells_won", "cells"])
+        for s in fault_ns:
+            for (custo, algoritmo), n in sorted(((k, v) for k, v in vitorias.items() if k[0] == s),
+                                                key=lambda kv: -kv[1]):
+                resumo.writerow([s, algoritmo, n, len(celulas)])
+    return vitorias
+
+# ─────────────────────────────────────────────
+# Main
+# ─────────────────────────────────────────────
+
+def main():
+    parser = argparse.ArgumentParser(description="Relatório de trade-off: overhead (JMH) x page faults (simulador)")
+    parser.add_argument("--jmh", default="results/jmh_results.json",
+                        help="JSON do AlgoritmoBenchmarkRunner (default: results/jmh_results.json)")
+    parser.add_argument("--sim", default="results/simulation_results.csv",
+                        help="CSV do simulador (default: results/simulation_results.csv)")
+    parser.add_argument("--metodo", default="replayLote", choices=["replay", "replayLote"],
+                        help="Benchmark de replay usado como custo por referência (default: replayLote)")
+    parser.add_argument("--fault-ns", type=float, nargs="+", default=FAULT_NS_PADRAO,
+                        help="Custos de serviço de um fault em ns (default: %(default)s)")
+    parser.add_argument("--incluir-otimo", action="store_true",
+                        help="Inclui o Ótimo (não implementável) na fronteira e no break-even")
+    parser.add_argument("--output", default="reports",
+                        help="Pasta de saída (default: reports)")
+    args = parser.parse_args()
+
+    custos    = ler_jmh(args.jmh, args.metodo)
+    simulacao = ler_simulacao(args.sim)
+    celulas   = juntar(custos, simulacao, args.incluir_otimo)
+    if not celulas:
+        print("Nenhuma célula (workload, algoritmo, frames) presente nos dois arquivos.")
+        return
+
+    fault_ns = [int(s) if float(s).is_integer() else s for s in args.fault_ns]
+    vitorias = gerar(celulas, simulacao, fault_ns, args.output)
+
+    print(f"{len(celulas)} células (workload x frames) com JMH e simulação\n")
+    for s in fault_ns:
+        ranking = sorted(((a, n) for (c, a), n in vitorias.items() if c == s), key=lambda x: -x[1])
+        print(f"  fault = {s:>12,} ns  →  " + ", ".join(f"{a} ({n})" for a, n in ranking[:5]))
+    print(f"\nRelatórios em '{args.output}/'")
+
+if __name__ == "__main__":
+    main()